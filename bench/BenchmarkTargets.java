@@ -0,0 +1,88 @@
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
+
+// Puente entre los benchmarks JMH (que exigen un paquete) y las clases del juego, que viven en el
+// paquete por defecto. Cada método devuelve la operación a medir ya preparada; GameBenchmark los
+// obtiene una sola vez por reflexión en su @Setup, fuera de la zona medida.
+public final class BenchmarkTargets {
+    private BenchmarkTargets() {
+    }
+
+    // Llenado completo de la cuadrícula con números aleatorios
+    public static IntSupplier gridInitialization(int gridSize) {
+        GameEngine engine = new GameEngine(gridSize);
+        return () -> {
+            engine.initializeGrid();
+            return engine.getNumber(gridSize - 1, gridSize - 1);
+        };
+    }
+
+    // Generación de un tablero adaptativo a partir de la tabla de pares (nivel intermedio)
+    public static IntSupplier adaptiveBoard(int gridSize) {
+        byte[] cells = new byte[gridSize * gridSize];
+        SplittableRandom random = new SplittableRandom(1L);
+        return () -> {
+            DifficultyTable.fillBoard(cells, DifficultyTable.LEVELS / 2, random);
+            return cells[cells.length - 1];
+        };
+    }
+
+    // Generación de la operación y de sus cuatro opciones de respuesta
+    public static IntSupplier operationGeneration(int gridSize) {
+        GameEngine engine = new GameEngine(gridSize);
+        engine.newGame();
+        engine.selectCell(0, 0);
+        engine.selectCell(gridSize - 1, gridSize - 1);
+        return () -> {
+            engine.generateOperation();
+            return engine.getCorrectResult();
+        };
+    }
+
+    // Resolución de un turno completo: dos casillas, respuesta y cambio de jugador.
+    // Al terminar la partida se reinician los jugadores sin regenerar la cuadrícula.
+    public static IntSupplier roundResolution(int gridSize) {
+        GameEngine engine = new GameEngine(gridSize);
+        engine.newGame();
+        int cells = gridSize * gridSize;
+        int[] cursor = new int[1];
+        return () -> {
+            if (engine.getState() == GameEngine.State.GAME_OVER) {
+                engine.resetPlayers();
+            }
+            int first = cursor[0];
+            int second = (first + 1) % cells;
+            cursor[0] = (first + 2) % cells;
+            engine.selectCell(first / gridSize, first % gridSize);
+            engine.selectCell(second / gridSize, second % gridSize);
+            engine.answer(engine.getCorrectResult());
+            engine.nextPlayer();
+            return engine.getScore(0);
+        };
+    }
+
+    // Un tick de la cuenta regresiva con los textos en caché y la etiqueta diferida (sin asignaciones)
+    public static IntSupplier cachedStatusTick() {
+        StatusText texts = new StatusText(GameEngine.PLAYER_COUNT, 0);
+        String[] label = new String[1];
+        BatchedText status = new BatchedText(text -> label[0] = text, "");
+        int[] secondsLeft = {0};
+        return () -> {
+            secondsLeft[0] = secondsLeft[0] == 0 ? GameEngine.TIMER_SECONDS : secondsLeft[0] - 1;
+            status.set(texts.question(1, 47, '+', 38, secondsLeft[0]));
+            status.flush();
+            return label[0].length();
+        };
+    }
+
+    // El mismo tick armando el texto por concatenación, como lo hacía la vista originalmente
+    public static IntSupplier concatenatedStatusTick() {
+        String[] label = new String[1];
+        int[] secondsLeft = {0};
+        return () -> {
+            secondsLeft[0] = secondsLeft[0] == 0 ? GameEngine.TIMER_SECONDS : secondsLeft[0] - 1;
+            label[0] = "Jugador " + 2 + ": Encuentra: " + 47 + " " + '+' + " " + 38 + " = ? (" + secondsLeft[0] + "s)";
+            return label[0].length();
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Rendimiento del SamplingBot: muestras por segundo y por núcleo con distintos tamaños de
+// pool, para dimensionar el hardware de un aula con muchos bots.
+// Argumentos opcionales: [presupuesto por jugada en ms] [jugadas por medición] [tamaño de cuadrícula]
+public class BotBenchmark {
+    public static void main(String[] args) {
+        long budgetMillis = args.length > 0 ? Long.parseLong(args[0]) : 50;
+        int moves = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int gridSize = args.length > 2 ? Integer.parseInt(args[2]) : GameEngine.GRID_SIZE;
+        BotView view = sampleView(gridSize, new SplittableRandom(9L));
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("Presupuesto %d ms, %d jugadas, cuadrícula %dx%d%n", budgetMillis, moves, gridSize, gridSize);
+        for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                SamplingBot bot = new SamplingBot(BotSkill.STANDARD, pool,
+                    TimeUnit.MILLISECONDS.toNanos(budgetMillis), 1L);
+                bot.chooseCells(view); // Calentamiento
+                SamplingBot measured = new SamplingBot(BotSkill.STANDARD, pool,
+                    TimeUnit.MILLISECONDS.toNanos(budgetMillis), 2L);
+                for (int move = 0; move < moves; move++) {
+                    measured.chooseCells(view);
+                }
+                System.out.printf("%2d hilos: %,.0f muestras/s/núcleo, %,d muestras por jugada%n",
+                    parallelism, measured.getSamplesPerSecondPerCore(), measured.getTotalSamples() / moves);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Tablero de mitad de partida: todas las casillas libres y una de cada tres recordada
+    private static BotView sampleView(int gridSize, SplittableRandom random) {
+        int cells = gridSize * gridSize;
+        byte[] memory = new byte[cells];
+        int[] free = new int[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            free[cell] = cell;
+            if (cell % 3 == 0) {
+                memory[cell] = (byte) random.nextInt(GameEngine.MIN_NUMBER, GameEngine.MAX_NUMBER + 1);
+            }
+        }
+        return new BotView(gridSize, memory, free, cells);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.layout.GridPane;
+
+// Costo del paso de CSS al cambiar el color de las casillas: estilos en línea con setStyle (como
+// antes) frente a las pseudoclases de CellState sobre mathgrid.css. En cada paso se cambia el
+// estado de cierta cantidad de botones de una cuadrícula de 8x8 (2 = un turno normal, 64 = partida
+// rápida de bots o tablero grande desplazándose) y se mide applyCss + layout de la escena.
+// Necesita el toolkit de JavaFX (pantalla) y mathgrid.css en el classpath.
+// Uso: CssBenchmark [pasos por medición]
+public class CssBenchmark {
+    private static final int SIDE = GridView.MAX_VISIBLE; // Botones por lado, como el pool de GridView
+    private static final int WARMUP_PASSES = 2_000;
+    private static final String[] INLINE = {
+        "-fx-font-size: 14;", "-fx-font-size: 14; -fx-background-color: lightgreen;",
+        "-fx-font-size: 14; -fx-background-color: lightcoral;"
+    };
+    private static final CellState[] STATES = {CellState.HIDDEN, CellState.CORRECT, CellState.WRONG};
+
+    public static void main(String[] args) throws Exception {
+        int passes = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Platform.startup(() -> {
+            try {
+                System.out.println("Casillas por paso | setStyle p50 / p99 (ns) | pseudoclases p50 / p99 (ns)");
+                for (int changed : new int[] {2, 16, SIDE * SIDE}) {
+                    long[] inline = measure(false, changed, passes);
+                    long[] pseudo = measure(true, changed, passes);
+                    System.out.printf("%17d | %10d / %-10d | %12d / %-10d%n", changed,
+                        inline[passes / 2], inline[passes * 99 / 100], pseudo[passes / 2], pseudo[passes * 99 / 100]);
+                }
+                done.complete(null);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        });
+        try {
+            done.get();
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    // Tiempos ordenados de cada paso de CSS con la cantidad de casillas cambiadas indicada
+    private static long[] measure(boolean pseudoClasses, int changed, int passes) {
+        GridPane grid = new GridPane();
+        Button[] buttons = new Button[SIDE * SIDE];
+        int[] states = new int[buttons.length];
+        for (int i = 0; i < buttons.length; i++) {
+            buttons[i] = new Button("?");
+            buttons[i].setMinSize(50.0, 50.0);
+            if (pseudoClasses) {
+                buttons[i].getStyleClass().add("cell");
+                buttons[i].pseudoClassStateChanged(STATES[0].pseudoClass(), true);
+            } else {
+                buttons[i].setStyle(INLINE[0]);
+            }
+            grid.add(buttons[i], i % SIDE, i / SIDE);
+        }
+        Scene scene = new Scene(grid);
+        if (pseudoClasses) {
+            scene.getStylesheets().add(Objects.requireNonNull(CssBenchmark.class.getResource("mathgrid.css"),
+                "Falta mathgrid.css en el classpath").toExternalForm());
+        }
+        grid.applyCss();
+        grid.layout();
+        long[] samples = new long[passes];
+        int next = 0; // Casilla siguiente a cambiar (recorrido circular)
+        for (int pass = -WARMUP_PASSES; pass < passes; pass++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < changed; i++) {
+                int cell = next;
+                next = (next + 1) % buttons.length;
+                int state = (states[cell] + 1) % STATES.length;
+                if (pseudoClasses) {
+                    PseudoClass old = STATES[states[cell]].pseudoClass();
+                    buttons[cell].pseudoClassStateChanged(old, false);
+                    buttons[cell].pseudoClassStateChanged(STATES[state].pseudoClass(), true);
+                } else {
+                    buttons[cell].setStyle(INLINE[state]);
+                }
+                states[cell] = state;
+            }
+            grid.applyCss();
+            grid.layout();
+            if (pass >= 0) {
+                samples[pass] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Microbenchmark del generador de distractores: recorre todo el espacio de operandos 10-99
+// y reporta media, p99, p99.9 y máximo por banda de resultado, para comprobar que el peor caso es plano.
+// El máximo incluye pausas del sistema operativo; el p99.9 refleja el costo real del peor camino.
+// Al final compara el costo medio con el de servir las mismas opciones desde OptionTable.
+public class DistractorBenchmark {
+    private static final int MIN_NUMBER = 10;
+    private static final int MAX_NUMBER = 99;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURE_ROUNDS = 50;
+    private static final int BAND_WIDTH = 20; // Ancho de cada banda de resultados
+
+    public static void main(String[] args) {
+        DistractorGenerator generator = StrategyDistractorGenerator.standard(MIN_NUMBER, MAX_NUMBER);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] options = new int[DistractorGenerator.OPTION_COUNT];
+        int minResult = MIN_NUMBER - MAX_NUMBER;
+        int bands = (2 * MAX_NUMBER - minResult) / BAND_WIDTH + 1;
+        long[][] samples = new long[bands][];
+        int[] calls = new int[bands];
+        // Cuenta cuántas llamadas caen en cada banda para reservar espacio para las muestras
+        for (int first = MIN_NUMBER; first <= MAX_NUMBER; first++) {
+            for (int second = MIN_NUMBER; second <= MAX_NUMBER; second++) {
+                calls[(first + second - minResult) / BAND_WIDTH] += MEASURE_ROUNDS;
+                calls[(first - second - minResult) / BAND_WIDTH] += MEASURE_ROUNDS;
+            }
+        }
+        for (int band = 0; band < bands; band++) {
+            samples[band] = new long[calls[band]];
+            calls[band] = 0;
+        }
+        long checksum = 0;
+
+        // Calentamiento para que el JIT compile el camino caliente
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            checksum += sweep(generator, random, options, null, null, minResult);
+        }
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            checksum += sweep(generator, random, options, samples, calls, minResult);
+        }
+
+        System.out.println("Banda de resultado | llamadas | media (ns) | p99 (ns) | p99.9 (ns) | máx (ns)");
+        long globalP999 = 0;
+        for (int band = 0; band < bands; band++) {
+            if (calls[band] == 0) {
+                continue;
+            }
+            long[] sorted = samples[band];
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long sample : sorted) {
+                total += sample;
+            }
+            long p999 = percentile(sorted, 99.9);
+            int low = minResult + band * BAND_WIDTH;
+            System.out.printf("%5d..%-5d | %9d | %10.1f | %8d | %10d | %8d%n", low, low + BAND_WIDTH - 1,
+                sorted.length, (double) total / sorted.length, percentile(sorted, 99.0), p999,
+                sorted[sorted.length - 1]);
+            globalP999 = Math.max(globalP999, p999);
+        }
+        System.out.println("Peor p99.9 entre bandas (ns): " + globalP999 + " (checksum " + checksum + ")");
+
+        // Mismo recorrido servido desde la tabla (ya llena tras el calentamiento)
+        OptionTable table = new OptionTable(generator);
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            checksum += sweep(table, random, options);
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            checksum += sweep(table, random, options);
+        }
+        long tableCalls = (long) MEASURE_ROUNDS * 2 * (MAX_NUMBER - MIN_NUMBER + 1) * (MAX_NUMBER - MIN_NUMBER + 1);
+        System.out.printf("OptionTable: media %.1f ns por llamada (checksum %d)%n",
+            (double) (System.nanoTime() - start) / tableCalls, checksum);
+    }
+
+    // Sirve las opciones de cada par de operandos y ambos operadores desde la tabla
+    private static long sweep(OptionTable table, SplittableRandom random, int[] options) {
+        long checksum = 0;
+        for (int first = MIN_NUMBER; first <= MAX_NUMBER; first++) {
+            for (int second = MIN_NUMBER; second <= MAX_NUMBER; second++) {
+                table.fillOptions(Operation.encode(first, second, Operator.ADD), options, random);
+                checksum += options[0] + options[3];
+                table.fillOptions(Operation.encode(first, second, Operator.SUBTRACT), options, random);
+                checksum += options[0] + options[3];
+            }
+        }
+        return checksum;
+    }
+
+    // Ejecuta el generador para cada par de operandos y ambos operadores
+    private static long sweep(DistractorGenerator generator, SplittableRandom random, int[] options,
+                              long[][] samples, int[] calls, int minResult) {
+        long checksum = 0;
+        for (int first = MIN_NUMBER; first <= MAX_NUMBER; first++) {
+            for (int second = MIN_NUMBER; second <= MAX_NUMBER; second++) {
+                for (int op = 0; op < 2; op++) {
+                    char operator = op == 0 ? '+' : '-';
+                    int correct = op == 0 ? first + second : first - second;
+                    long start = System.nanoTime();
+                    generator.fillOptions(first, second, operator, correct, options, random);
+                    long elapsed = System.nanoTime() - start;
+                    checksum += options[0] + options[3];
+                    if (samples != null) {
+                        int band = (correct - minResult) / BAND_WIDTH;
+                        samples[band][calls[band]++] = elapsed;
+                    }
+                }
+            }
+        }
+        return checksum;
+    }
+
+    // Percentil sobre muestras ya ordenadas
+    private static long percentile(long[] sorted, double percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Generador de carga para GameServer: muchos LoopbackClient concurrentes juegan partidas
+// completas y se reportan partidas por segundo (y por núcleo) y la latencia p50/p99 por movimiento.
+// Uso: LoadGenerator [partidas] [clientes] [tamañoCuadrícula]
+public class LoadGenerator {
+    public static void main(String[] args) throws Exception {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int gridSize = args.length > 2 ? Integer.parseInt(args[2]) : GameEngine.GRID_SIZE;
+        int cores = Runtime.getRuntime().availableProcessors();
+        AtomicInteger remaining = new AtomicInteger(matches);
+        SplittableRandom seeds = new SplittableRandom(2024);
+
+        try (GameServer server = new GameServer(gridSize)) {
+            // Los clientes bloquean esperando al servidor: sin hilos virtuales se usa un hilo por cliente
+            ExecutorService clientExecutor = GameServer.newExecutor(clients);
+            List<LoopbackClient> players = new ArrayList<>();
+            List<Future<?>> running = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < clients; i++) {
+                LoopbackClient client = new LoopbackClient(server, gridSize, seeds.split());
+                players.add(client);
+                // Cada cliente juega partidas hasta agotar el total compartido
+                running.add(clientExecutor.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        client.playMatch();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : running) {
+                task.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            clientExecutor.shutdown();
+
+            long[] latencies = players.stream().map(LoopbackClient::getLatencies)
+                .flatMapToLong(Arrays::stream).sorted().toArray();
+            double seconds = elapsed / 1e9;
+            System.out.printf("Partidas: %d, clientes: %d, cuadrícula %dx%d, núcleos: %d%n",
+                matches, clients, gridSize, gridSize, cores);
+            System.out.printf("Tiempo total: %.2f s%n", seconds);
+            System.out.printf("Partidas/s: %.0f (%.0f por núcleo)%n", matches / seconds, matches / seconds / cores);
+            System.out.printf("Movimientos: %d, latencia p50 %.1f us, p99 %.1f us, p99.9 %.1f us, máx %.1f us%n",
+                latencies.length, percentile(latencies, 50.0) / 1e3, percentile(latencies, 99.0) / 1e3,
+                percentile(latencies, 99.9) / 1e3, latencies[latencies.length - 1] / 1e3);
+        }
+    }
+
+    // Percentil sobre muestras ya ordenadas
+    private static long percentile(long[] sorted, double percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Tiempo hasta el primer cuadro: lanza el juego como proceso nuevo varias veces con
+// -Dmathgrid.startupProbe=true y mide desde el lanzamiento hasta que la ventana dibujó la cuadrícula
+// (first-frame) y hasta que la partida quedó armada (ready). Compara sin CDS, con el archivo base
+// del JDK y con el archivo AppCDS de run-fast. Se ejecuta desde la raíz del repositorio después de
+// run-fast.sh / run-fast.cmd (usa out/mathgrid.jar, out/mathgrid.jsa y lib/javafx).
+// Uso: StartupBenchmark [lanzamientos por configuración]
+public class StartupBenchmark {
+    private static final Path JAR = Path.of("out", "mathgrid.jar");
+    private static final Path ARCHIVE = Path.of("out", "mathgrid.jsa");
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        if (!Files.exists(JAR)) {
+            throw new IllegalStateException("Falta " + JAR + ": ejecutar antes run-fast.sh o run-fast.cmd");
+        }
+        String[][] configs = Files.exists(ARCHIVE)
+            ? new String[][] {{"-Xshare:off"}, {"-Xshare:auto"}, {"-XX:SharedArchiveFile=" + ARCHIVE}}
+            : new String[][] {{"-Xshare:off"}, {"-Xshare:auto"}};
+        long[][] firstFrame = new long[configs.length][runs];
+        long[][] ready = new long[configs.length][runs];
+        // Lanzamientos intercalados para que la caché de disco y la carga del sistema afecten a todas por igual
+        for (int run = 0; run < runs; run++) {
+            for (int c = 0; c < configs.length; c++) {
+                long[] times = launch(configs[c]);
+                firstFrame[c][run] = times[0];
+                ready[c][run] = times[1];
+            }
+        }
+        System.out.println("Configuración | primer cuadro p50 / mín (ms) | partida lista p50 / mín (ms)");
+        for (int c = 0; c < configs.length; c++) {
+            Arrays.sort(firstFrame[c]);
+            Arrays.sort(ready[c]);
+            System.out.printf("%-40s | %8d / %-8d | %8d / %-8d%n", String.join(" ", configs[c]),
+                firstFrame[c][runs / 2], firstFrame[c][0], ready[c][runs / 2], ready[c][0]);
+        }
+    }
+
+    // Lanza el juego y devuelve los milisegundos hasta el primer cuadro y hasta la partida lista
+    private static long[] launch(String[] jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(jvmOptions));
+        command.addAll(Arrays.asList("-Dmathgrid.startupProbe=true", "--module-path", "lib" + File.separator + "javafx",
+            "--add-modules", "javafx.controls", "-cp", JAR.toString(), "MathGridGame"));
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long firstFrame = -1;
+        long ready = -1;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long elapsed = (System.nanoTime() - start) / 1_000_000;
+                if (line.startsWith("first-frame-ms=")) {
+                    firstFrame = elapsed;
+                } else if (line.startsWith("ready-ms=")) {
+                    ready = elapsed;
+                }
+            }
+        }
+        if (process.waitFor() != 0 || firstFrame < 0 || ready < 0) {
+            throw new IllegalStateException("El juego no informó sus tiempos de arranque: " + command);
+        }
+        return new long[] {firstFrame, ready};
+    }
+}
\ No newline at end of file
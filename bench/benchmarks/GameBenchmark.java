@@ -0,0 +1,71 @@
+package benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Benchmarks JMH de los caminos calientes del motor: inicialización de la cuadrícula (uniforme y
+// adaptativa), generación de la operación con sus opciones y resolución de un turno completo.
+// Ejecutar con "-prof gc" para obtener la tasa de asignación de memoria.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    // Cuadrícula actual (8) y tamaños mucho mayores
+    @Param({"8", "64", "512"})
+    public int gridSize;
+
+    private IntSupplier gridInitialization;
+    private IntSupplier adaptiveBoard;
+    private IntSupplier operationGeneration;
+    private IntSupplier roundResolution;
+
+    // Las clases del juego están en el paquete por defecto: se enlazan una vez por reflexión
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Class<?> targets = Class.forName("BenchmarkTargets");
+        gridInitialization = target(targets, "gridInitialization");
+        adaptiveBoard = target(targets, "adaptiveBoard");
+        operationGeneration = target(targets, "operationGeneration");
+        roundResolution = target(targets, "roundResolution");
+    }
+
+    private IntSupplier target(Class<?> targets, String name) throws ReflectiveOperationException {
+        Method factory = targets.getMethod(name, int.class);
+        return (IntSupplier) factory.invoke(null, gridSize);
+    }
+
+    @Benchmark
+    public int initializeGrid() {
+        return gridInitialization.getAsInt();
+    }
+
+    @Benchmark
+    public int generateAdaptiveBoard() {
+        return adaptiveBoard.getAsInt();
+    }
+
+    @Benchmark
+    public int generateOperation() {
+        return operationGeneration.getAsInt();
+    }
+
+    @Benchmark
+    public int resolveRound() {
+        return roundResolution.getAsInt();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Costo de actualizar la etiqueta de estado en cada tick de la cuenta regresiva. Con "-prof gc",
+// cachedStatusTick debe mostrar gc.alloc.rate.norm cercano a 0 B/op, frente a los bytes por tick
+// de la concatenación original.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusBenchmark {
+    private IntSupplier cached;
+    private IntSupplier concatenated;
+
+    // Las clases del juego están en el paquete por defecto: se enlazan una vez por reflexión
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Class<?> targets = Class.forName("BenchmarkTargets");
+        cached = (IntSupplier) targets.getMethod("cachedStatusTick").invoke(null);
+        concatenated = (IntSupplier) targets.getMethod("concatenatedStatusTick").invoke(null);
+    }
+
+    @Benchmark
+    public int cachedStatusTick() {
+        return cached.getAsInt();
+    }
+
+    @Benchmark
+    public int concatenatedStatusTick() {
+        return concatenated.getAsInt();
+    }
+}
\ No newline at end of file
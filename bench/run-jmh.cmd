@@ -0,0 +1,15 @@
+@echo off
+rem Compila el juego y los benchmarks JMH y los ejecuta con el perfilador de memoria (gc).
+rem Requiere los jar de JMH en lib\jmh y los de JavaFX en lib\javafx (ver README).
+rem Los argumentos extra se pasan a JMH, por ejemplo: bench\run-jmh.cmd GameBenchmark -p gridSize=8
+setlocal
+cd /d "%~dp0.."
+set OUT=bench\out
+set JMH_CP=
+for %%f in (lib\jmh\*.jar) do call set "JMH_CP=%%JMH_CP%%;%%f"
+if exist %OUT% rmdir /s /q %OUT%
+mkdir %OUT%
+javac -encoding UTF-8 -d %OUT% -cp "lib\javafx\*" src\*.java || exit /b 1
+copy /y src\*.css %OUT% > nul
+javac -encoding UTF-8 -d %OUT% -cp "%OUT%;%JMH_CP%;lib\javafx\*" -processorpath "%JMH_CP%" bench\*.java bench\benchmarks\*.java || exit /b 1
+java -cp "%OUT%;%JMH_CP%" org.openjdk.jmh.Main -prof gc %*
@@ -0,0 +1,15 @@
+#!/bin/sh
+# Compila el juego y los benchmarks JMH y los ejecuta con el perfilador de memoria (gc).
+# Requiere los jar de JMH en lib/jmh y los de JavaFX en lib/javafx (ver README).
+# Los argumentos extra se pasan a JMH, por ejemplo: ./bench/run-jmh.sh GameBenchmark -p gridSize=8
+set -e
+cd "$(dirname "$0")/.."
+OUT=bench/out
+JMH_CP=$(ls lib/jmh/*.jar | tr '\n' ':')
+FX_CP=$(ls lib/javafx/*.jar | tr '\n' ':')
+rm -rf "$OUT" && mkdir -p "$OUT"
+javac -encoding UTF-8 -d "$OUT" -cp "$FX_CP" src/*.java
+cp src/*.css "$OUT"
+javac -encoding UTF-8 -d "$OUT" -cp "$OUT:$JMH_CP:$FX_CP" -processorpath "$JMH_CP" \
+    bench/*.java bench/benchmarks/*.java
+java -cp "$OUT:$JMH_CP" org.openjdk.jmh.Main -prof gc "$@"
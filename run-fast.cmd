@@ -0,0 +1,22 @@
+@echo off
+rem Arranque rápido: empaqueta el juego en un jar y lo ejecuta con un archivo de clases compartidas
+rem (AppCDS). La primera vez hace una ejecución de entrenamiento que muestra la ventana, arma la
+rem partida y se cierra sola, volcando las clases cargadas (JavaFX incluido) en out\mathgrid.jsa;
+rem las siguientes ejecuciones mapean ese archivo en lugar de cargar y verificar cada clase.
+rem Requiere JDK 13 o superior y los jar de JavaFX en lib\javafx. Para regenerarlo se borra out\.
+rem Los argumentos se pasan al juego, por ejemplo: run-fast.cmd --size=16
+setlocal
+cd /d "%~dp0"
+set OUT=out
+set FX=--module-path lib\javafx --add-modules javafx.controls
+if not exist %OUT%\mathgrid.jar (
+    if exist %OUT% rmdir /s /q %OUT%
+    mkdir %OUT%\classes
+    javac -encoding UTF-8 -d %OUT%\classes %FX% src\*.java || exit /b 1
+    copy /y src\*.css %OUT%\classes > nul
+    jar cf %OUT%\mathgrid.jar -C %OUT%\classes . || exit /b 1
+)
+if not exist %OUT%\mathgrid.jsa (
+    java -XX:ArchiveClassesAtExit=%OUT%\mathgrid.jsa -Dmathgrid.startupProbe=true %FX% -cp %OUT%\mathgrid.jar MathGridGame || exit /b 1
+)
+java -XX:SharedArchiveFile=%OUT%\mathgrid.jsa %FX% -cp %OUT%\mathgrid.jar MathGridGame %*
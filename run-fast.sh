@@ -0,0 +1,22 @@
+#!/bin/sh
+# Arranque rápido: empaqueta el juego en un jar y lo ejecuta con un archivo de clases compartidas
+# (AppCDS). La primera vez hace una ejecución de entrenamiento que muestra la ventana, arma la
+# partida y se cierra sola, volcando las clases cargadas (JavaFX incluido) en out/mathgrid.jsa;
+# las siguientes ejecuciones mapean ese archivo en lugar de cargar y verificar cada clase.
+# Requiere JDK 13 o superior y los jar de JavaFX en lib/javafx. Para regenerarlo se borra out/.
+# Los argumentos se pasan al juego, por ejemplo: ./run-fast.sh --size=16
+set -e
+cd "$(dirname "$0")"
+OUT=out
+FX="--module-path lib/javafx --add-modules javafx.controls"
+if [ ! -f "$OUT/mathgrid.jar" ]; then
+    rm -rf "$OUT" && mkdir -p "$OUT/classes"
+    javac -encoding UTF-8 -d "$OUT/classes" $FX src/*.java
+    cp src/*.css "$OUT/classes"
+    jar cf "$OUT/mathgrid.jar" -C "$OUT/classes" .
+fi
+if [ ! -f "$OUT/mathgrid.jsa" ]; then
+    java -XX:ArchiveClassesAtExit="$OUT/mathgrid.jsa" -Dmathgrid.startupProbe=true $FX \
+        -cp "$OUT/mathgrid.jar" MathGridGame
+fi
+exec java -XX:SharedArchiveFile="$OUT/mathgrid.jsa" $FX -cp "$OUT/mathgrid.jar" MathGridGame "$@"
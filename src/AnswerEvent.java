@@ -0,0 +1,67 @@
+// Evento inmutable de una respuesta: quién respondió, a qué operación, qué eligió, cuánto tardó
+// y si acertó. Es la unidad que se guarda en el ScoreLog.
+public final class AnswerEvent {
+    private final long timestampMillis; // Instante de la respuesta (epoch en milisegundos)
+    private final long latencyNanos; // Tiempo desde que se mostró la operación
+    private final int studentId; // Estudiante que respondió
+    private final int player; // Posición del jugador en la partida
+    private final int firstNumber; // Primer operando
+    private final int secondNumber; // Segundo operando
+    private final char operator; // Operador (+, -, * o /)
+    private final int chosenAnswer; // Respuesta elegida (TIMEOUT_ANSWER si se agotó el tiempo)
+    private final boolean correct; // Si la respuesta fue correcta
+
+    public AnswerEvent(long timestampMillis, long latencyNanos, int studentId, int player, int firstNumber,
+                       int secondNumber, char operator, int chosenAnswer, boolean correct) {
+        this.timestampMillis = timestampMillis;
+        this.latencyNanos = latencyNanos;
+        this.studentId = studentId;
+        this.player = player;
+        this.firstNumber = firstNumber;
+        this.secondNumber = secondNumber;
+        this.operator = operator;
+        this.chosenAnswer = chosenAnswer;
+        this.correct = correct;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public int getPlayer() {
+        return player;
+    }
+
+    public int getFirstNumber() {
+        return firstNumber;
+    }
+
+    public int getSecondNumber() {
+        return secondNumber;
+    }
+
+    public char getOperator() {
+        return operator;
+    }
+
+    public int getChosenAnswer() {
+        return chosenAnswer;
+    }
+
+    public boolean isCorrect() {
+        return correct;
+    }
+
+    // Si la respuesta fue por tiempo agotado
+    public boolean isTimeout() {
+        return chosenAnswer == GameEngine.TIMEOUT_ANSWER;
+    }
+}
\ No newline at end of file
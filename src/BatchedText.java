@@ -0,0 +1,35 @@
+import java.util.function.Consumer;
+
+// Texto de una etiqueta con actualización diferida: los eventos solo anotan el valor pendiente y
+// flush() lo aplica una vez por pulso, y solo si cambió. Varias actualizaciones dentro del mismo
+// cuadro cuestan un único setText (y un único pase de maquetación de la etiqueta).
+public final class BatchedText {
+    private final Consumer<String> sink; // Destino del texto (por ejemplo Label::setText)
+    private String shown; // Texto aplicado por última vez
+    private String pending; // Texto a aplicar en el próximo pulso
+
+    public BatchedText(Consumer<String> sink, String initial) {
+        this.sink = sink;
+        this.shown = initial;
+        this.pending = initial;
+    }
+
+    // Anota el nuevo texto; no toca la etiqueta
+    public void set(String text) {
+        pending = text;
+    }
+
+    // Aplica el texto pendiente si difiere del mostrado; devuelve true si actualizó la etiqueta
+    public boolean flush() {
+        if (pending == shown || pending.equals(shown)) {
+            return false;
+        }
+        shown = pending;
+        sink.accept(shown);
+        return true;
+    }
+
+    public String getPending() {
+        return pending;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Generador masivo de tableros con su clave de respuestas, para imprimir o distribuir sin el juego.
+// Cada tablero se arma con la misma lógica que la partida (números uniformes o DifficultyTable,
+// operadores de Operator y opciones de OptionTable) y se divide en problemas de dos casillas
+// consecutivas (en tableros impares la última casilla se combina con la primera).
+//
+// Los tableros se generan por bloques en todos los núcleos y se escriben en orden: como mucho hay
+// 2 * hilos bloques en vuelo, así que la memoria no depende de la cantidad de tableros. Cada bloque
+// lleva tantos tableros como entren en CHUNK_BYTES (al menos uno), para que los tableros grandes
+// no disparen la memoria ni desborden el tamaño del buffer. El tablero número i solo depende de la
+// semilla y de i, de modo que la salida es idéntica con cualquier cantidad de hilos.
+//
+// Formato binario: "MGBX", versión (1 byte), tamaño (int), tableros (long), semilla (long), nivel + 1
+// y máscara de operadores (1 byte cada uno); luego, por tablero, sus casillas (1 byte cada una) y
+// por problema un byte (operador << 2 | posición de la correcta) y las cuatro opciones (short).
+// Formato CSV: una línea por problema con tablero, casillas, operación, resultado y opciones.
+public final class BoardExporter {
+    static final byte[] MAGIC = {'M', 'G', 'B', 'X'}; // Identificador del formato binario
+    static final int VERSION = 1; // Versión del formato binario
+    static final long CHUNK_BYTES = 1 << 20; // Bytes por bloque de trabajo (salvo bloques de un solo tablero)
+    private static final int CSV_VALUE_CHARS = 6; // Resultado u opción en CSV: caben en un short ("-32768")
+    private static final int CSV_SEPARATORS = 11; // Diez comas y el salto de línea
+    static final String CSV_HEADER =
+        "tablero,casilla1,casilla2,numero1,operador,numero2,resultado,opcion1,opcion2,opcion3,opcion4\n";
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L; // Separa las semillas de tableros vecinos
+
+    // Formatos de salida
+    public enum Format {
+        BINARY, // Compacto, para cargar desde otro programa
+        CSV // Legible, para hojas de cálculo
+    }
+
+    private final int gridSize; // Tamaño de cada tablero
+    private final long seed; // Semilla de toda la exportación
+    private final int level; // Nivel de DifficultyTable o GameEngine.UNIFORM_LEVEL
+    private final Operator[] operators; // Operadores que se sortean en cada problema
+    private final Format format; // Formato de salida
+
+    public BoardExporter(int gridSize, long seed, int level, Operator[] operators, Format format) {
+        if (gridSize < 2 || gridSize > GameEngine.MAX_GRID_SIZE) {
+            throw new IllegalArgumentException("Tamaño de cuadrícula inválido: " + gridSize);
+        }
+        if (level < GameEngine.UNIFORM_LEVEL || level >= DifficultyTable.LEVELS) {
+            throw new IllegalArgumentException("Nivel de dificultad inválido: " + level);
+        }
+        this.gridSize = gridSize;
+        this.seed = seed;
+        this.level = level;
+        this.operators = Operator.fromMask(Operator.mask(operators));
+        this.format = format;
+    }
+
+    // Cantidad de problemas de un tablero de gridSize x gridSize
+    public static int problemCount(int gridSize) {
+        return (gridSize * gridSize + 1) / 2;
+    }
+
+    // Formato a partir de su nombre en la línea de comandos ("binary" o "csv")
+    public static Format parseFormat(String name) {
+        for (Format format : Format.values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato desconocido: " + name + " (se esperaba binary o csv)");
+    }
+
+    // Cota superior de los bytes de cualquiera de los tableros 0 .. boards - 1 (exacta en binario; en
+    // CSV cuenta los dígitos del mayor número de tablero y de casilla y el ancho máximo de cada valor)
+    long bytesPerBoard(long boards) {
+        long problems = problemCount(gridSize);
+        if (format == Format.BINARY) {
+            return (long) gridSize * gridSize + problems * (1 + 2 * DistractorGenerator.OPTION_COUNT);
+        }
+        int line = digits(Math.max(0, boards - 1)) + 2 * digits((long) gridSize * gridSize - 1) +
+            2 * digits(GameEngine.MAX_NUMBER) + 1 + (1 + DistractorGenerator.OPTION_COUNT) * CSV_VALUE_CHARS +
+            CSV_SEPARATORS;
+        return problems * line;
+    }
+
+    private static int digits(long value) {
+        return Long.toString(value).length();
+    }
+
+    // Tableros por bloque de trabajo al exportar boards tableros: los que entran en CHUNK_BYTES, al menos uno
+    int chunkBoards(long boards) {
+        return (int) Math.max(1, CHUNK_BYTES / bytesPerBoard(boards));
+    }
+
+    // Escribe boards tableros en out generándolos con threads hilos; devuelve los bytes escritos
+    public long export(long boards, OutputStream out, int threads) throws IOException, InterruptedException {
+        if (boards < 0) {
+            throw new IllegalArgumentException("Cantidad de tableros inválida: " + boards);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo: " + threads);
+        }
+        int chunkBoards = chunkBoards(boards);
+        long written = writeHeader(boards, out);
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mathgrid-board-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            ArrayDeque<Future<byte[]>> inFlight = new ArrayDeque<>();
+            long chunks = (boards + chunkBoards - 1) / chunkBoards;
+            long nextChunk = 0;
+            while (nextChunk < chunks || !inFlight.isEmpty()) {
+                // Mantiene ocupados a todos los hilos sin adelantarse más de 2 * hilos bloques al escritor
+                while (nextChunk < chunks && inFlight.size() < 2 * threads) {
+                    long first = nextChunk * chunkBoards;
+                    int count = (int) Math.min(chunkBoards, boards - first);
+                    inFlight.add(workers.submit(() -> encodeChunk(first, count)));
+                    nextChunk++;
+                }
+                byte[] chunk = inFlight.poll().get();
+                out.write(chunk);
+                written += chunk.length;
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falló la generación de un bloque de tableros", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        out.flush();
+        return written;
+    }
+
+    private long writeHeader(long boards, OutputStream out) throws IOException {
+        if (format == Format.CSV) {
+            byte[] header = CSV_HEADER.getBytes(StandardCharsets.US_ASCII);
+            out.write(header);
+            return header.length;
+        }
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(gridSize);
+        data.writeLong(boards);
+        data.writeLong(seed);
+        data.writeByte(level + 1); // UNIFORM_LEVEL (-1) se guarda como 0
+        data.writeByte(Operator.mask(operators));
+        return data.size();
+    }
+
+    // Genera y codifica los tableros first .. first + count - 1
+    byte[] encodeChunk(long first, int count) {
+        byte[] cells = new byte[gridSize * gridSize];
+        int[] options = new int[DistractorGenerator.OPTION_COUNT];
+        int problems = problemCount(gridSize);
+        // count viene de chunkBoards(), así que la capacidad no pasa de CHUNK_BYTES salvo con un único tablero grande
+        long capacity = count * bytesPerBoard(first + count);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+        StringBuilder line = new StringBuilder(64);
+        for (int i = 0; i < count; i++) {
+            long board = first + i;
+            SplittableRandom random = new SplittableRandom(boardSeed(board));
+            if (level == GameEngine.UNIFORM_LEVEL) {
+                GameEngine.fillGrid(cells, random);
+            } else {
+                DifficultyTable.fillBoard(cells, level, random);
+            }
+            if (format == Format.BINARY) {
+                bytes.write(cells, 0, cells.length);
+            }
+            for (int problem = 0; problem < problems; problem++) {
+                int firstCell = 2 * problem;
+                int secondCell = (firstCell + 1) % cells.length;
+                Operator operator = operators[random.nextInt(operators.length)];
+                int operation = Operation.encode(cells[firstCell], cells[secondCell], operator);
+                int result = Operation.result(operation);
+                OptionTable.STANDARD.fillOptions(operation, options, random);
+                if (format == Format.BINARY) {
+                    int correct = 0;
+                    while (options[correct] != result) {
+                        correct++;
+                    }
+                    bytes.write(operator.ordinal() << 2 | correct);
+                    for (int option : options) {
+                        bytes.write(option >>> 8);
+                        bytes.write(option);
+                    }
+                } else {
+                    line.setLength(0);
+                    line.append(board).append(',').append(firstCell).append(',').append(secondCell).append(',')
+                        .append(cells[firstCell]).append(',').append(operator.symbol()).append(',')
+                        .append(cells[secondCell]).append(',').append(result);
+                    for (int option : options) {
+                        line.append(',').append(option);
+                    }
+                    line.append('\n');
+                    for (int c = 0; c < line.length(); c++) {
+                        bytes.write(line.charAt(c)); // Solo dígitos, signos y comas: ASCII
+                    }
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    // Semilla del tablero número board (mezcla de SplitMix64, para que tableros vecinos no se parezcan)
+    private long boardSeed(long board) {
+        long z = seed + (board + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Uso: BoardExporter --out=archivo [--boards=N] [--size=N] [--seed=N] [--level=N] [--operators=+-*/]
+    //      [--format=csv|binary] [--threads=N]
+    // Informa al final los tableros por segundo en la salida de errores.
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> named = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg);
+            }
+            named.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        String out = named.get("out");
+        if (out == null) {
+            throw new IllegalArgumentException("Falta --out=archivo");
+        }
+        long boards = Long.parseLong(named.getOrDefault("boards", "1000000"));
+        int gridSize = Integer.parseInt(named.getOrDefault("size", String.valueOf(GameEngine.GRID_SIZE)));
+        String seed = named.get("seed");
+        int level = Integer.parseInt(named.getOrDefault("level", String.valueOf(GameEngine.UNIFORM_LEVEL)));
+        Operator[] operators = Operator.parse(named.getOrDefault("operators", "+-"));
+        Format format = parseFormat(named.getOrDefault("format", "binary"));
+        int threads = Integer.parseInt(named.getOrDefault("threads",
+            String.valueOf(Runtime.getRuntime().availableProcessors())));
+        BoardExporter exporter = new BoardExporter(gridSize,
+            seed == null ? ThreadLocalRandom.current().nextLong() : Long.parseLong(seed), level, operators, format);
+        long start = System.nanoTime();
+        long bytes;
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(Path.of(out)), 1 << 16)) {
+            bytes = exporter.export(boards, stream, threads);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("%d tableros (%.1f MB) en %.2f s: %.0f tableros/s con %d hilos%n",
+            boards, bytes / 1e6, seconds, boards / seconds, threads);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// Hace jugar a los bots dentro de la rotación normal de turnos. Observa el motor: recuerda los
+// números que se destapan (igual que un estudiante atento) y, cuando empieza el turno de un
+// asiento con bot, lo deja pensar en otro hilo y aplica sus jugadas en el hilo del juego.
+public final class BotDriver implements GameListener {
+    private final GameEngine engine; // Partida en la que juegan los bots
+    private final BotPlayer[] seats; // Bot de cada asiento (null = jugador humano)
+    private final Consumer<Runnable> gameThread; // Ejecuta en el hilo del juego (Platform::runLater en la vista)
+    private final Executor thinker; // Donde piensan los bots
+    private final byte[] memory; // Números vistos por casilla (0 = desconocido)
+    private final int[] freeBuffer; // Búfer para copiar las casillas libres
+
+    public BotDriver(GameEngine engine, BotPlayer[] seats, Consumer<Runnable> gameThread, Executor thinker) {
+        if (seats.length != engine.getPlayerCount()) {
+            throw new IllegalArgumentException("Se esperaban " + engine.getPlayerCount() + " asientos");
+        }
+        this.engine = engine;
+        this.seats = seats.clone();
+        this.gameThread = gameThread;
+        this.thinker = thinker;
+        int cells = engine.getGridSize() * engine.getGridSize();
+        this.memory = new byte[cells];
+        this.freeBuffer = new int[cells];
+    }
+
+    public boolean isBot(int player) {
+        return seats[player] != null;
+    }
+
+    // Cuadrícula nueva: los números vistos ya no sirven
+    @Override
+    public void gameStarted() {
+        Arrays.fill(memory, (byte) 0);
+    }
+
+    @Override
+    public void cellRevealed(int row, int col, int value) {
+        memory[row * engine.getGridSize() + col] = (byte) value;
+    }
+
+    // Si el turno es de un bot, copia lo que ve del tablero y lo deja elegir las casillas
+    @Override
+    public void turnStarted(int player) {
+        BotPlayer bot = seats[player];
+        if (bot == null) {
+            return;
+        }
+        int free = engine.copyFreeCells(freeBuffer);
+        BotView view = new BotView(engine.getGridSize(), memory.clone(), Arrays.copyOf(freeBuffer, free), free,
+            engine.getOperators());
+        int game = engine.getGameNumber();
+        int turn = engine.getTurnNumber();
+        thinker.execute(() -> {
+            int[] cells = bot.chooseCells(view);
+            gameThread.accept(() -> {
+                // Si mientras pensaba la partida cambió (reinicio), la jugada ya no corresponde
+                if (engine.getGameNumber() != game || engine.getTurnNumber() != turn ||
+                    engine.getCurrentPlayer() != player || engine.getState() != GameEngine.State.SELECT_FIRST) {
+                    return;
+                }
+                int size = engine.getGridSize();
+                engine.selectCell(cells[0] / size, cells[0] % size);
+                engine.selectCell(cells[1] / size, cells[1] % size);
+            });
+        });
+    }
+
+    // Responde la operación cuando el turno es de un bot
+    @Override
+    public void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+        int player = engine.getCurrentPlayer();
+        BotPlayer bot = seats[player];
+        if (bot == null) {
+            return;
+        }
+        int answer = bot.chooseAnswer(firstNumber, operator, secondNumber, engine.getCorrectResult(), options);
+        int game = engine.getGameNumber();
+        int turn = engine.getTurnNumber();
+        gameThread.accept(() -> {
+            if (engine.getGameNumber() == game && engine.getTurnNumber() == turn &&
+                engine.getState() == GameEngine.State.ANSWER) {
+                engine.answer(answer);
+            }
+        });
+    }
+}
\ No newline at end of file
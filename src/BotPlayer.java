@@ -0,0 +1,9 @@
+// Jugador controlado por la computadora. Juega con la misma información que un estudiante: las
+// casillas libres y los números que ya vio destapar; nunca lee los valores ocultos del motor.
+public interface BotPlayer {
+    // Elige las dos casillas del turno (fila * tamaño + columna), en el orden en que las destapa
+    int[] chooseCells(BotView view);
+
+    // Elige una de las opciones de respuesta de la operación
+    int chooseAnswer(int firstNumber, char operator, int secondNumber, int correctResult, int[] options);
+}
\ No newline at end of file
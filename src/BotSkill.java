@@ -0,0 +1,46 @@
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Modelo de habilidad de un bot: probabilidad de acertar según el nivel de dificultad de la
+// operación (DifficultyTable). Lo usan los bots para responder y el SamplingBot para estimar
+// cuántos puntos espera obtener con cada par de casillas.
+public final class BotSkill {
+    // Bot fuerte: casi nunca falla las operaciones fáciles y acierta tres de cada cinco difíciles
+    public static final BotSkill STANDARD = new BotSkill(new double[] {0.98, 0.93, 0.85, 0.75, 0.6});
+    private final double[] accuracy; // Probabilidad de acertar por nivel
+
+    public BotSkill(double[] accuracyByLevel) {
+        if (accuracyByLevel.length != DifficultyTable.LEVELS) {
+            throw new IllegalArgumentException("Se esperaban " + DifficultyTable.LEVELS + " niveles");
+        }
+        this.accuracy = accuracyByLevel.clone();
+    }
+
+    // Habilidad uniforme: la misma precisión en todos los niveles
+    public static BotSkill uniform(double accuracy) {
+        double[] levels = new double[DifficultyTable.LEVELS];
+        Arrays.fill(levels, accuracy);
+        return new BotSkill(levels);
+    }
+
+    // Probabilidad de acertar la operación indicada
+    public double accuracy(int firstNumber, char operator, int secondNumber) {
+        return accuracy[DifficultyTable.level(firstNumber, secondNumber, operator)];
+    }
+
+    // Elige la respuesta: la correcta con la probabilidad del modelo, si no una opción incorrecta
+    public int chooseAnswer(int firstNumber, char operator, int secondNumber, int correctResult, int[] options,
+                            RandomGenerator random) {
+        if (random.nextDouble() < accuracy(firstNumber, operator, secondNumber)) {
+            return correctResult;
+        }
+        int start = random.nextInt(options.length);
+        for (int i = 0; i < options.length; i++) {
+            int option = options[(start + i) % options.length];
+            if (option != correctResult) {
+                return option;
+            }
+        }
+        return correctResult;
+    }
+}
\ No newline at end of file
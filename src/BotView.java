@@ -0,0 +1,49 @@
+// Lo que un bot puede ver del tablero al empezar su turno: qué casillas están libres y los
+// números que recuerda de turnos anteriores (0 = nunca visto). Es una copia, así que el bot puede
+// pensar en otro hilo mientras el juego sigue en el suyo.
+public final class BotView {
+    private final int gridSize; // Tamaño de la cuadrícula
+    private final byte[] memory; // Número recordado de cada casilla (0 si no se conoce)
+    private final int[] freeCells; // Casillas libres
+    private final int freeCount; // Cantidad de casillas libres
+    private final Operator[] operators; // Operadores que se pueden sortear en esta partida
+
+    BotView(int gridSize, byte[] memory, int[] freeCells, int freeCount) {
+        this(gridSize, memory, freeCells, freeCount, Operator.fromMask(Operator.mask(Operator.ADD, Operator.SUBTRACT)));
+    }
+
+    BotView(int gridSize, byte[] memory, int[] freeCells, int freeCount, Operator[] operators) {
+        this.operators = operators;
+        this.gridSize = gridSize;
+        this.memory = memory;
+        this.freeCells = freeCells;
+        this.freeCount = freeCount;
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public int getFreeCount() {
+        return freeCount;
+    }
+
+    // La casilla libre número i (0 <= i < getFreeCount())
+    public int getFreeCell(int i) {
+        return freeCells[i];
+    }
+
+    public int getOperatorCount() {
+        return operators.length;
+    }
+
+    // El operador número i (0 <= i < getOperatorCount())
+    public Operator getOperator(int i) {
+        return operators[i];
+    }
+
+    // Número recordado de una casilla, o 0 si el bot no lo conoce
+    public int getRemembered(int cell) {
+        return memory[cell];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+import java.util.random.RandomGenerator;
+
+// Índice incremental del estado de las casillas. Guarda en conjuntos de bits qué casillas están
+// destapadas o bloqueadas y mantiene un arreglo denso con las casillas libres (ni destapadas ni
+// bloqueadas), con la posición de cada una para quitarla o agregarla en O(1).
+// Así consultar una casilla, cambiarla y elegir una libre al azar no recorren la cuadrícula.
+public final class CellIndex {
+    private final int cellCount; // Cantidad total de casillas
+    private final long[] revealed; // Bit encendido: casilla destapada
+    private final long[] locked; // Bit encendido: casilla bloqueada
+    private final int[] free; // Casillas libres, en las primeras freeCount posiciones
+    private final int[] position; // Posición de cada casilla dentro de free (-1 si no está libre)
+    private int freeCount; // Cantidad de casillas libres
+
+    public CellIndex(int cellCount) {
+        this.cellCount = cellCount;
+        this.revealed = new long[(cellCount + 63) >>> 6];
+        this.locked = new long[(cellCount + 63) >>> 6];
+        this.free = new int[cellCount];
+        this.position = new int[cellCount];
+        reset();
+    }
+
+    // Deja todas las casillas ocultas, desbloqueadas y libres (solo al iniciar una partida)
+    public void reset() {
+        for (int i = 0; i < revealed.length; i++) {
+            revealed[i] = 0L;
+            locked[i] = 0L;
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            free[cell] = cell;
+            position[cell] = cell;
+        }
+        freeCount = cellCount;
+    }
+
+    public boolean isRevealed(int cell) {
+        return (revealed[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public boolean isLocked(int cell) {
+        return (locked[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    // Una casilla está libre si se puede seleccionar: ni destapada ni bloqueada
+    public boolean isFree(int cell) {
+        return position[cell] >= 0;
+    }
+
+    // Destapa una casilla libre; devuelve false si estaba destapada o bloqueada
+    public boolean reveal(int cell) {
+        if (!isFree(cell)) {
+            return false;
+        }
+        revealed[cell >>> 6] |= 1L << cell;
+        removeFree(cell);
+        return true;
+    }
+
+    // Vuelve a ocultar una casilla; queda libre si no está bloqueada
+    public void hide(int cell) {
+        if (!isRevealed(cell)) {
+            return;
+        }
+        revealed[cell >>> 6] &= ~(1L << cell);
+        if (!isLocked(cell)) {
+            addFree(cell);
+        }
+    }
+
+    // Bloquea una casilla para que no se pueda seleccionar
+    public void lock(int cell) {
+        if (isLocked(cell)) {
+            return;
+        }
+        locked[cell >>> 6] |= 1L << cell;
+        if (isFree(cell)) {
+            removeFree(cell);
+        }
+    }
+
+    // Desbloquea una casilla; queda libre si no está destapada
+    public void unlock(int cell) {
+        if (!isLocked(cell)) {
+            return;
+        }
+        locked[cell >>> 6] &= ~(1L << cell);
+        if (!isRevealed(cell)) {
+            addFree(cell);
+        }
+    }
+
+    public int freeCount() {
+        return freeCount;
+    }
+
+    // Casilla libre al azar en O(1), o -1 si no queda ninguna
+    public int randomFreeCell(RandomGenerator random) {
+        return freeCount == 0 ? -1 : free[random.nextInt(freeCount)];
+    }
+
+    // Copia las casillas libres (en orden arbitrario) y devuelve cuántas hay
+    public int copyFreeCells(int[] out) {
+        System.arraycopy(free, 0, out, 0, freeCount);
+        return freeCount;
+    }
+
+    // Quita la casilla del arreglo denso moviendo la última a su lugar
+    private void removeFree(int cell) {
+        int index = position[cell];
+        int last = free[--freeCount];
+        free[index] = last;
+        position[last] = index;
+        position[cell] = -1;
+    }
+
+    private void addFree(int cell) {
+        free[freeCount] = cell;
+        position[cell] = freeCount++;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+import javafx.css.PseudoClass;
+
+// Estado visual de una casilla de la cuadrícula. Cada estado es una pseudoclase de mathgrid.css
+// (.cell:correct, .cell:wrong...), así que cambiar de estado solo enciende y apaga dos bits del
+// nodo y JavaFX reutiliza las reglas ya compiladas en lugar de analizar CSS en línea.
+public enum CellState {
+    HIDDEN("hidden"), // Oculta y seleccionable
+    REVEALED("revealed"), // Destapada durante el turno
+    CORRECT("correct"), // Par del turno respondido correctamente
+    WRONG("wrong"), // Par del turno respondido mal o con el tiempo agotado
+    LOCKED("locked"); // Par del turno bloqueado mientras espera respuesta
+
+    private final PseudoClass pseudoClass; // Pseudoclase CSS del estado
+
+    CellState(String name) {
+        this.pseudoClass = PseudoClass.getPseudoClass(name);
+    }
+
+    public PseudoClass pseudoClass() {
+        return pseudoClass;
+    }
+}
\ No newline at end of file
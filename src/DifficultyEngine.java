@@ -0,0 +1,75 @@
+import java.util.Arrays;
+
+// Dificultad adaptativa: sigue la precisión y el tiempo de respuesta de cada jugador con promedios
+// móviles exponenciales y elige el nivel del próximo tablero. Recibe los datos como observador
+// del motor (operationReady marca el inicio, answerResolved el resultado).
+public final class DifficultyEngine implements GameListener {
+    private static final double SMOOTHING = 0.25; // Peso de la última respuesta en los promedios
+    private static final double INITIAL_ACCURACY = 0.6; // Precisión supuesta antes de responder
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private final GameClock clock; // Reloj para medir el tiempo de respuesta
+    private final double[] accuracy; // Precisión móvil de cada jugador (0 a 1)
+    private final double[] latencySeconds; // Tiempo de respuesta móvil de cada jugador
+    private long shownNanos; // Instante en que se mostró la operación en curso
+
+    public DifficultyEngine(GameClock clock) {
+        this(clock, GameEngine.PLAYER_COUNT);
+    }
+
+    public DifficultyEngine(GameClock clock, int playerCount) {
+        this.clock = clock;
+        accuracy = new double[playerCount];
+        latencySeconds = new double[playerCount];
+        Arrays.fill(accuracy, INITIAL_ACCURACY);
+        Arrays.fill(latencySeconds, GameEngine.TIMER_SECONDS / 2.0);
+    }
+
+    @Override
+    public void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+        shownNanos = clock.nanoTime();
+    }
+
+    // Actualiza los promedios del jugador; un tiempo agotado cuenta como error con el tiempo completo
+    @Override
+    public void answerResolved(int player, int selectedAnswer, boolean correct) {
+        double seconds = selectedAnswer == GameEngine.TIMEOUT_ANSWER ? GameEngine.TIMER_SECONDS
+            : Math.min(GameEngine.TIMER_SECONDS, (double) (clock.nanoTime() - shownNanos) / NANOS_PER_SECOND);
+        accuracy[player] += SMOOTHING * ((correct ? 1.0 : 0.0) - accuracy[player]);
+        latencySeconds[player] += SMOOTHING * (seconds - latencySeconds[player]);
+    }
+
+    public int getPlayerCount() {
+        return accuracy.length;
+    }
+
+    public double getAccuracy(int player) {
+        return accuracy[player];
+    }
+
+    public double getLatencySeconds(int player) {
+        return latencySeconds[player];
+    }
+
+    // Habilidad de 0 a 1: la precisión, penalizada hasta la mitad si el jugador tarda todo el turno
+    public double skill(int player) {
+        return accuracy[player] * (1.0 - 0.5 * latencySeconds[player] / GameEngine.TIMER_SECONDS);
+    }
+
+    // Nivel recomendado para un jugador
+    public int targetLevel(int player) {
+        return levelFor(skill(player));
+    }
+
+    // Nivel del próximo tablero: todos comparten la cuadrícula, así que se usa la habilidad media
+    public int boardLevel() {
+        double total = 0.0;
+        for (int player = 0; player < accuracy.length; player++) {
+            total += skill(player);
+        }
+        return levelFor(total / accuracy.length);
+    }
+
+    private static int levelFor(double skill) {
+        return Math.max(0, Math.min(DifficultyTable.LEVELS - 1, (int) (skill * DifficultyTable.LEVELS)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+import java.util.random.RandomGenerator;
+
+// Tabla precalculada de dificultad para todos los pares de operandos (MIN_NUMBER..MAX_NUMBER).
+// Se calcula una sola vez al cargar la clase; después clasificar un par o generar un tablero de
+// un nivel dado solo hace búsquedas en arreglos, sin aritmética por casilla.
+//
+// Factores: en la suma, llevar en las unidades y pasar de 100; en la resta, pedir prestado y que
+// el resultado sea negativo; en la multiplicación, el tamaño del producto y las tablas con
+// llevadas; en la división, el resto y el tamaño del cociente. Como el operador se sortea después
+// de elegir las casillas, el nivel de un par es el promedio (redondeado hacia arriba) de sus
+// dificultades con + y con -, los operadores de la partida estándar.
+public final class DifficultyTable {
+    public static final int LEVELS = 5; // Niveles de dificultad (0 = más fácil)
+    private static final int RANGE = GameEngine.MAX_NUMBER - GameEngine.MIN_NUMBER + 1; // Operandos posibles
+    private static final byte[] ADD_LEVEL = new byte[RANGE * RANGE]; // Dificultad de a + b
+    private static final byte[] SUBTRACT_LEVEL = new byte[RANGE * RANGE]; // Dificultad de a - b
+    private static final byte[] MULTIPLY_LEVEL = new byte[RANGE * RANGE]; // Dificultad de a * b
+    private static final byte[] DIVIDE_LEVEL = new byte[RANGE * RANGE]; // Dificultad de a / b
+    private static final short[][] PAIRS = new short[LEVELS][]; // Pares (a, b) de cada nivel, empaquetados
+
+    static {
+        int[] counts = new int[LEVELS];
+        byte[] pairLevel = new byte[RANGE * RANGE];
+        for (int a = 0; a < RANGE; a++) {
+            for (int b = 0; b < RANGE; b++) {
+                int pair = a * RANGE + b;
+                ADD_LEVEL[pair] = (byte) addDifficulty(a + GameEngine.MIN_NUMBER, b + GameEngine.MIN_NUMBER);
+                SUBTRACT_LEVEL[pair] = (byte) subtractDifficulty(a + GameEngine.MIN_NUMBER, b + GameEngine.MIN_NUMBER);
+                MULTIPLY_LEVEL[pair] = (byte) multiplyDifficulty(a + GameEngine.MIN_NUMBER, b + GameEngine.MIN_NUMBER);
+                DIVIDE_LEVEL[pair] = (byte) divideDifficulty(a + GameEngine.MIN_NUMBER, b + GameEngine.MIN_NUMBER);
+                pairLevel[pair] = (byte) ((ADD_LEVEL[pair] + SUBTRACT_LEVEL[pair] + 1) / 2);
+                counts[pairLevel[pair]]++;
+            }
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            PAIRS[level] = new short[counts[level]];
+            counts[level] = 0;
+        }
+        for (int pair = 0; pair < pairLevel.length; pair++) {
+            PAIRS[pairLevel[pair]][counts[pairLevel[pair]]++] = (short) pair;
+        }
+    }
+
+    private DifficultyTable() {
+    }
+
+    // Suma: llevar en las unidades (+2), unidades que suman 15 o más (+1) y resultado de 3 cifras (+1)
+    private static int addDifficulty(int a, int b) {
+        int ones = a % 10 + b % 10;
+        return (ones >= 10 ? 2 : 0) + (ones >= 15 ? 1 : 0) + (a + b >= 100 ? 1 : 0);
+    }
+
+    // Resta: pedir prestado (+2) y resultado negativo (+2, aunque el préstamo se cuenta sobre |a - b|)
+    private static int subtractDifficulty(int a, int b) {
+        int high = Math.max(a, b);
+        int low = Math.min(a, b);
+        return (high % 10 < low % 10 ? 2 : 0) + (a < b ? 2 : 0);
+    }
+
+    // Multiplicación: producto de 4 cifras (+2), ningún factor termina en 0 (+1) y unidades cuyo
+    // producto lleva (+1)
+    private static int multiplyDifficulty(int a, int b) {
+        return (a * b >= 1000 ? 2 : 0) + (a % 10 != 0 && b % 10 != 0 ? 1 : 0) + ((a % 10) * (b % 10) >= 10 ? 1 : 0);
+    }
+
+    // División entera: división no exacta (+2), cociente de al menos 2 (+1) y de al menos 5 (+1)
+    private static int divideDifficulty(int a, int b) {
+        return (a % b != 0 ? 2 : 0) + (a / b >= 2 ? 1 : 0) + (a / b >= 5 ? 1 : 0);
+    }
+
+    // Dificultad de una operación concreta, de 0 a LEVELS - 1
+    public static int level(int firstNumber, int secondNumber, char operator) {
+        int pair = (firstNumber - GameEngine.MIN_NUMBER) * RANGE + (secondNumber - GameEngine.MIN_NUMBER);
+        switch (operator) {
+            case '+':
+                return ADD_LEVEL[pair];
+            case '-':
+                return SUBTRACT_LEVEL[pair];
+            case '*':
+                return MULTIPLY_LEVEL[pair];
+            case '/':
+                return DIVIDE_LEVEL[pair];
+            default:
+                throw new IllegalArgumentException("Operador desconocido: " + operator);
+        }
+    }
+
+    // Nivel de un par de casillas antes de sortear el operador
+    public static int pairLevel(int firstNumber, int secondNumber) {
+        return (level(firstNumber, secondNumber, '+') + level(firstNumber, secondNumber, '-') + 1) / 2;
+    }
+
+    // Cantidad de pares de operandos con el nivel indicado
+    public static int pairCount(int level) {
+        return PAIRS[level].length;
+    }
+
+    // Llena el tablero con pares sorteados del nivel indicado: cada dos casillas consecutivas forman
+    // un par del nivel, y las combinaciones cruzadas usan los mismos valores, así que los pares que
+    // el jugador puede elegir se concentran alrededor del nivel pedido.
+    public static void fillBoard(byte[] cells, int level, RandomGenerator random) {
+        short[] pairs = PAIRS[level];
+        int cell = 0;
+        for (; cell + 1 < cells.length; cell += 2) {
+            int pair = pairs[random.nextInt(pairs.length)];
+            cells[cell] = (byte) (pair / RANGE + GameEngine.MIN_NUMBER);
+            cells[cell + 1] = (byte) (pair % RANGE + GameEngine.MIN_NUMBER);
+        }
+        if (cell < cells.length) {
+            cells[cell] = (byte) (pairs[random.nextInt(pairs.length)] / RANGE + GameEngine.MIN_NUMBER);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+import java.util.random.RandomGenerator;
+
+// Generador de opciones de respuesta: una correcta y tres incorrectas (distractores)
+public interface DistractorGenerator {
+    // Cantidad de opciones que se muestran al jugador
+    int OPTION_COUNT = 4;
+
+    // Llena options[0..3] con la respuesta correcta y tres distractores únicos en orden aleatorio.
+    // Debe terminar siempre tras una cantidad fija de trabajo, sin importar los operandos.
+    void fillOptions(int firstNumber, int secondNumber, char operator, int correctResult,
+                     int[] options, RandomGenerator random);
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+import java.util.random.RandomGenerator;
+
+// Estrategia que propone una respuesta incorrecta a partir de un error típico de cálculo.
+// Si la estrategia no aplica puede devolver el resultado correcto, que el generador descarta.
+@FunctionalInterface
+public interface DistractorStrategy {
+    int candidate(int firstNumber, int secondNumber, char operator, int correctResult, RandomGenerator random);
+
+    // Error por uno: el resultado correcto más o menos 1
+    DistractorStrategy OFF_BY_ONE = (first, second, operator, correct, random) ->
+        random.nextBoolean() ? correct + 1 : correct - 1;
+
+    // Dígitos invertidos: intercambia las decenas y las unidades (42 -> 24, 198 -> 189)
+    DistractorStrategy DIGIT_SWAP = (first, second, operator, correct, random) -> {
+        int value = Math.abs(correct);
+        if (value < 10) {
+            return correct;
+        }
+        int units = value % 10;
+        int tens = (value / 10) % 10;
+        int swapped = value - tens * 10 - units + units * 10 + tens;
+        return correct < 0 ? -swapped : swapped;
+    };
+
+    // Operador equivocado: suma cuando era resta y viceversa; suma en lugar de multiplicar y resta
+    // en lugar de dividir
+    DistractorStrategy WRONG_OPERATOR = (first, second, operator, correct, random) -> {
+        switch (operator) {
+            case '+':
+            case '/':
+                return first - second;
+            default:
+                return first + second;
+        }
+    };
+
+    // Error de acarreo: olvida (o inventa) la llevada de las unidades en la suma o el préstamo en la
+    // resta; no aplica a multiplicación ni división
+    DistractorStrategy CARRY_ERROR = (first, second, operator, correct, random) -> {
+        if (operator == '*' || operator == '/') {
+            return correct;
+        }
+        if (operator == '+') {
+            return (first % 10) + (second % 10) >= 10 ? correct - 10 : correct + 10;
+        }
+        return (first % 10) < (second % 10) ? correct + 10 : correct - 10;
+    };
+}
\ No newline at end of file
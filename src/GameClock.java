@@ -0,0 +1,8 @@
+// Fuente de tiempo monotónica en nanosegundos. Permite sustituir el reloj del sistema en pruebas.
+@FunctionalInterface
+public interface GameClock {
+    long nanoTime();
+
+    // Reloj del sistema (System.nanoTime)
+    GameClock SYSTEM = System::nanoTime;
+}
\ No newline at end of file
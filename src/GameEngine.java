@@ -0,0 +1,450 @@
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+// Motor del juego sin dependencias de JavaFX. Contiene todo el estado de la partida y lo
+// avanza mediante una máquina de estados explícita:
+// SELECT_FIRST -> SELECT_SECOND -> ANSWER -> NEXT_PLAYER -> (SELECT_FIRST | GAME_OVER)
+public class GameEngine implements TurnCountdown.Target {
+    // Constantes para el tamaño de la cuadrícula y el rango de números
+    public static final int GRID_SIZE = 8; // Tamaño de la cuadrícula (8x8)
+    public static final int MAX_GRID_SIZE = 1000; // Tamaño máximo para los modos de torneo
+    public static final int MAX_NUMBER = 99; // Valor máximo de los números
+    public static final int MIN_NUMBER = 10; // Valor mínimo de los números
+    public static final int TIMER_SECONDS = 15; // Duración del temporizador en segundos
+    public static final int PLAYER_COUNT = 3; // Cantidad de jugadores de la partida estándar
+    public static final int MAX_PLAYERS = 1024; // Máximo de jugadores en los modos de aula
+    public static final int POINTS_PER_CORRECT = 10; // Puntos por respuesta correcta
+    public static final int TIMEOUT_ANSWER = -999; // Respuesta registrada cuando se acaba el tiempo
+    public static final int UNIFORM_LEVEL = -1; // Tablero sin dificultad adaptativa (números uniformes)
+    private static final GameListener NO_LISTENER = new GameListener() { }; // Observador vacío por defecto
+
+    // Estados de la partida
+    public enum State {
+        SELECT_FIRST, // Esperando la primera casilla
+        SELECT_SECOND, // Esperando la segunda casilla
+        ANSWER, // Esperando la respuesta a la operación
+        NEXT_PLAYER, // Turno resuelto, pendiente de pasar al siguiente jugador
+        GAME_OVER // Todos los jugadores intentaron en todas las rondas
+    }
+
+    private final int gridSize; // Tamaño de la cuadrícula de esta partida
+    private final byte[] cells; // Números de la cuadrícula por filas (10-99 caben en un byte)
+    private final CellIndex cellIndex; // Casillas destapadas/bloqueadas y conjunto de libres
+    private final long seed; // Semilla de toda la aleatoriedad de la partida
+    private final SplittableRandom gridRandom; // Flujo para generar cuadrículas
+    private final SplittableRandom turnRandom; // Flujo para operadores y opciones de respuesta
+    private final OptionTable optionTable = OptionTable.STANDARD; // Opciones de respuesta precalculadas
+    private final int[] answerOptions = new int[DistractorGenerator.OPTION_COUNT]; // Opciones de respuesta
+    private final TurnScheduler scheduler; // Turnos, intentos por ronda y rondas de la partida
+    private final Scoreboard scoreboard; // Puntuaciones y clasificación de jugadores y equipos
+    private State state = State.SELECT_FIRST; // Estado actual de la partida
+    private int firstNumber; // Primer número seleccionado
+    private int secondNumber; // Segundo número seleccionado
+    private int firstRow; // Fila de la primera casilla
+    private int firstCol; // Columna de la primera casilla
+    private int secondRow; // Fila de la segunda casilla
+    private int secondCol; // Columna de la segunda casilla
+    private int operatorMask = Operator.mask(Operator.ADD, Operator.SUBTRACT); // Operadores de la próxima partida
+    private Operator[] operators = Operator.fromMask(operatorMask); // Operadores de la partida en curso
+    private int operation; // Operación en curso codificada con Operation.encode
+    private int correctResult; // Resultado correcto de la operación
+    private int turnNumber = 0; // Número del turno en curso (aumenta con cada operación)
+    private int gameNumber = 0; // Número de la partida en curso (aumenta con cada newGame)
+    private int timeLeft; // Segundos restantes para responder
+    private GameListener listener = NO_LISTENER; // Observador de eventos (vista)
+    private MoveLog moveLog; // Registro de movimientos para repeticiones (opcional)
+    private DifficultyEngine difficulty; // Dificultad adaptativa de los tableros (opcional)
+    private int boardLevel = UNIFORM_LEVEL; // Nivel del tablero actual
+
+    // Crea una partida con la cuadrícula estándar de GRID_SIZE x GRID_SIZE
+    public GameEngine() {
+        this(GRID_SIZE);
+    }
+
+    // Crea una partida con una cuadrícula de gridSize x gridSize y una semilla al azar
+    public GameEngine(int gridSize) {
+        this(gridSize, ThreadLocalRandom.current().nextLong());
+    }
+
+    // Crea una partida reproducible: la misma semilla y los mismos movimientos producen
+    // exactamente la misma partida. Cada subsistema usa su propio flujo derivado con split(),
+    // de modo que por ejemplo regenerar la cuadrícula no altera la secuencia de operadores.
+    public GameEngine(int gridSize, long seed) {
+        this(gridSize, seed, PLAYER_COUNT, 0, 1);
+    }
+
+    // Crea una partida de playerCount jugadores repartidos en teamCount equipos (0 = individual)
+    // que dura la cantidad de rondas indicada; en cada ronda todos los jugadores intentan una vez
+    public GameEngine(int gridSize, long seed, int playerCount, int teamCount, int rounds) {
+        if (gridSize < 2 || gridSize > MAX_GRID_SIZE) {
+            throw new IllegalArgumentException("Tamaño de cuadrícula inválido: " + gridSize);
+        }
+        if (playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Cantidad de jugadores inválida: " + playerCount);
+        }
+        scheduler = new TurnScheduler(playerCount, rounds);
+        scoreboard = new Scoreboard(playerCount, teamCount);
+        this.gridSize = gridSize;
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        gridRandom = root.split();
+        turnRandom = root.split();
+        cells = new byte[gridSize * gridSize];
+        cellIndex = new CellIndex(gridSize * gridSize);
+    }
+
+    // Registra el observador de eventos del juego (reemplaza a los anteriores)
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    // Agrega un observador sin quitar los ya registrados (por ejemplo un ScoreRecorder junto a la vista)
+    public void addListener(GameListener listener) {
+        this.listener = this.listener == NO_LISTENER ? listener : GameListener.both(this.listener, listener);
+    }
+
+    // Empieza a registrar los movimientos aceptados. Debe llamarse antes de newGame para que
+    // el registro se pueda reproducir desde el principio.
+    public MoveLog startRecording() {
+        moveLog = new MoveLog(gridSize, seed, getPlayerCount(), scoreboard.getTeamCount(), scheduler.getRounds());
+        return moveLog;
+    }
+
+    // Activa la dificultad adaptativa: el motor le informa cada respuesta y cada nueva partida
+    // genera un tablero del nivel que recomiende
+    public void setDifficultyEngine(DifficultyEngine difficulty) {
+        if (difficulty.getPlayerCount() != getPlayerCount()) {
+            throw new IllegalArgumentException("La dificultad adaptativa es para " + difficulty.getPlayerCount() +
+                " jugadores");
+        }
+        this.difficulty = difficulty;
+        addListener(difficulty);
+    }
+
+    // Elige los operadores de las operaciones (por defecto suma y resta). Se aplica desde la
+    // siguiente nueva partida, para que el registro de movimientos la pueda reproducir.
+    public void setOperators(Operator... operators) {
+        operatorMask = Operator.mask(operators);
+        Operator.fromMask(operatorMask); // Valida que haya al menos uno
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Reinicia la partida: nueva cuadrícula, puntuaciones en cero y turno del jugador 1
+    public void newGame() {
+        newGame(difficulty == null ? UNIFORM_LEVEL : difficulty.boardLevel());
+    }
+
+    // Reinicia la partida con un tablero del nivel indicado (UNIFORM_LEVEL para números uniformes)
+    void newGame(int level) {
+        newGame(level, operatorMask);
+    }
+
+    // Reinicia la partida con un tablero del nivel indicado y los operadores de la máscara
+    void newGame(int level, int operatorMask) {
+        if (level < UNIFORM_LEVEL || level >= DifficultyTable.LEVELS) {
+            throw new IllegalArgumentException("Nivel de dificultad inválido: " + level);
+        }
+        operators = Operator.fromMask(operatorMask);
+        this.operatorMask = operatorMask;
+        if (moveLog != null) {
+            moveLog.newGame(level, operatorMask);
+        }
+        boardLevel = level;
+        if (level == UNIFORM_LEVEL) {
+            initializeGrid();
+        } else {
+            DifficultyTable.fillBoard(cells, level, gridRandom);
+        }
+        cellIndex.reset();
+        resetPlayers();
+        gameNumber++;
+        listener.gameStarted();
+        listener.turnStarted(getCurrentPlayer());
+    }
+
+    // Reinicia puntuaciones, intentos y turno conservando la cuadrícula actual
+    void resetPlayers() {
+        scheduler.reset();
+        scoreboard.reset();
+        state = State.SELECT_FIRST;
+    }
+
+    // Inicializa la cuadrícula con números aleatorios entre MIN_NUMBER y MAX_NUMBER
+    public void initializeGrid() {
+        fillGrid(cells, gridRandom);
+    }
+
+    // Llena un tablero con números uniformes entre MIN_NUMBER y MAX_NUMBER (también lo usa BoardExporter)
+    static void fillGrid(byte[] cells, RandomGenerator random) {
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = (byte) (random.nextInt(MAX_NUMBER - MIN_NUMBER + 1) + MIN_NUMBER);
+        }
+    }
+
+    // Selecciona una casilla; devuelve false si el movimiento no es válido en el estado actual
+    public boolean selectCell(int row, int col) {
+        int cell = toCell(row, col);
+        if ((state != State.SELECT_FIRST && state != State.SELECT_SECOND) || !cellIndex.reveal(cell)) {
+            return false;
+        }
+        if (moveLog != null) {
+            moveLog.select(cell);
+        }
+        if (state == State.SELECT_FIRST) {
+            // Guarda el primer número y su posición
+            firstNumber = cells[cell];
+            firstRow = row;
+            firstCol = col;
+            state = State.SELECT_SECOND;
+            listener.cellRevealed(row, col, firstNumber);
+        } else {
+            // Guarda el segundo número, genera la operación y sus opciones
+            secondNumber = cells[cell];
+            secondRow = row;
+            secondCol = col;
+            generateOperation();
+            // El par queda bloqueado hasta que se resuelva la respuesta
+            cellIndex.lock(toCell(firstRow, firstCol));
+            cellIndex.lock(cell);
+            turnNumber++;
+            timeLeft = TIMER_SECONDS;
+            state = State.ANSWER;
+            listener.cellRevealed(row, col, secondNumber);
+            listener.operationReady(firstNumber, getOperator(), secondNumber, answerOptions);
+        }
+        return true;
+    }
+
+    // Genera una operación aleatoria con los operadores de la partida sobre los números
+    // seleccionados, calcula el resultado y toma sus opciones de respuesta de la tabla
+    void generateOperation() {
+        Operator operator = operators[turnRandom.nextInt(operators.length)];
+        operation = Operation.encode(firstNumber, secondNumber, operator);
+        correctResult = operator.apply(firstNumber, secondNumber);
+        optionTable.fillOptions(operation, answerOptions, turnRandom);
+    }
+
+    // Registra la respuesta del jugador actual; devuelve false si no se esperaba una respuesta
+    public boolean answer(int selectedAnswer) {
+        if (state != State.ANSWER) {
+            return false;
+        }
+        if (moveLog != null) {
+            moveLog.answer(selectedAnswer);
+        }
+        int player = scheduler.getCurrent();
+        scheduler.markAttempted();
+        boolean correct = selectedAnswer == correctResult;
+        if (correct) {
+            scoreboard.add(player, POINTS_PER_CORRECT);
+        }
+        cellIndex.unlock(toCell(firstRow, firstCol));
+        cellIndex.unlock(toCell(secondRow, secondCol));
+        state = State.NEXT_PLAYER;
+        if (Metrics.ENABLED) {
+            Metrics.recordAnswer(selectedAnswer, correct);
+        }
+        listener.answerResolved(player, selectedAnswer, correct);
+        return true;
+    }
+
+    // Se acabó el tiempo: cuenta como respuesta incorrecta
+    public boolean timeout() {
+        return answer(TIMEOUT_ANSWER);
+    }
+
+    // Consume un segundo de la cuenta regresiva del turno indicado. Tras TIMER_SECONDS ticks
+    // visibles, el siguiente agota el tiempo. Devuelve true mientras se siga esperando respuesta.
+    @Override
+    public boolean tickSecond(int turn) {
+        if (state != State.ANSWER || turn != turnNumber) {
+            return false;
+        }
+        timeLeft--;
+        if (timeLeft >= 0) {
+            listener.timerTicked(scheduler.getCurrent(), timeLeft);
+            return true;
+        }
+        timeout(); // Respuesta incorrecta si se acaba el tiempo
+        return false;
+    }
+
+    // Oculta las casillas del turno y pasa al siguiente jugador (o a la siguiente ronda) o termina
+    // el juego cuando todos intentaron en la última ronda
+    public void nextPlayer() {
+        if (state != State.NEXT_PLAYER) {
+            return;
+        }
+        if (moveLog != null) {
+            moveLog.nextPlayer();
+        }
+        cellIndex.hide(firstRow * gridSize + firstCol);
+        cellIndex.hide(secondRow * gridSize + secondCol);
+        listener.cellHidden(firstRow, firstCol);
+        listener.cellHidden(secondRow, secondCol);
+        if (scheduler.advance()) {
+            state = State.SELECT_FIRST;
+            listener.turnStarted(scheduler.getCurrent());
+            return;
+        }
+        state = State.GAME_OVER;
+        listener.gameOver(scoreboard.copyScores());
+    }
+
+    // Nivel de dificultad del tablero actual (UNIFORM_LEVEL si es uniforme)
+    public int getBoardLevel() {
+        return boardLevel;
+    }
+
+    public int getGridSize() {
+        return gridSize;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getNumber(int row, int col) {
+        return cells[toCell(row, col)];
+    }
+
+    // Fija el número de una casilla (usado por pruebas y simulaciones)
+    void setNumber(int row, int col, int value) {
+        cells[toCell(row, col)] = (byte) value;
+    }
+
+    public boolean isRevealed(int row, int col) {
+        return cellIndex.isRevealed(toCell(row, col));
+    }
+
+    // Una casilla está bloqueada mientras su par espera respuesta
+    public boolean isLocked(int row, int col) {
+        return cellIndex.isLocked(toCell(row, col));
+    }
+
+    // Cantidad de casillas que todavía se pueden seleccionar
+    public int getFreeCellCount() {
+        return cellIndex.freeCount();
+    }
+
+    // Casilla libre al azar (fila * tamaño + columna) en O(1), o -1 si no queda ninguna.
+    // Pensado para bots y juego automático.
+    public int randomFreeCell(RandomGenerator picker) {
+        return cellIndex.randomFreeCell(picker);
+    }
+
+    // Copia las casillas libres (fila * tamaño + columna) en out, que debe tener lugar para todas
+    // las casillas, y devuelve cuántas hay. Es lo que un bot puede ver del tablero.
+    public int copyFreeCells(int[] out) {
+        return cellIndex.copyFreeCells(out);
+    }
+
+    // Posición de la casilla en los arreglos planos, validando fila y columna
+    private int toCell(int row, int col) {
+        return Objects.checkIndex(row, gridSize) * gridSize + Objects.checkIndex(col, gridSize);
+    }
+
+    public int getFirstNumber() {
+        return firstNumber;
+    }
+
+    public int getSecondNumber() {
+        return secondNumber;
+    }
+
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    public int getFirstCol() {
+        return firstCol;
+    }
+
+    public int getSecondRow() {
+        return secondRow;
+    }
+
+    public int getSecondCol() {
+        return secondCol;
+    }
+
+    public char getOperator() {
+        return Operation.operator(operation).symbol();
+    }
+
+    // Operación en curso codificada con Operation.encode
+    public int getOperation() {
+        return operation;
+    }
+
+    // Copia de los operadores de la partida en curso
+    public Operator[] getOperators() {
+        return operators.clone();
+    }
+
+    public int getCorrectResult() {
+        return correctResult;
+    }
+
+    // Copia de las opciones de respuesta del turno actual
+    public int[] getAnswerOptions() {
+        return answerOptions.clone();
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    // Junto con getTurnNumber identifica un turno aunque la partida se reinicie a mitad de él
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    public int getTimeLeft() {
+        return timeLeft;
+    }
+
+    public int getCurrentPlayer() {
+        return scheduler.getCurrent();
+    }
+
+    public int getPlayerCount() {
+        return scheduler.getPlayerCount();
+    }
+
+    // Ronda actual (desde 0) y total de rondas de la partida
+    public int getRound() {
+        return scheduler.getRound();
+    }
+
+    public int getRounds() {
+        return scheduler.getRounds();
+    }
+
+    public int getScore(int player) {
+        return scoreboard.getScore(player);
+    }
+
+    // Clasificación de jugadores y equipos (solo lectura para los clientes)
+    public Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    // Si el jugador ya intentó en la ronda actual
+    public boolean hasAttempted(int player) {
+        return scheduler.hasAttempted(player);
+    }
+
+    // Cantidad de casillas seleccionadas en el turno actual
+    public int getSelectedCount() {
+        if (state == State.SELECT_SECOND) {
+            return 1;
+        }
+        return state == State.ANSWER || state == State.NEXT_PLAYER ? 2 : 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+// Observador de los eventos del motor del juego. La vista JavaFX (u otro cliente) solo reacciona
+// a estos eventos; nunca modifica el estado directamente.
+public interface GameListener {
+    // Empieza una partida con una cuadrícula nueva (antes del primer turnStarted)
+    default void gameStarted() {
+    }
+
+    // Comienza el turno de un jugador (debe seleccionar la primera casilla)
+    default void turnStarted(int player) {
+    }
+
+    // Se destapó una casilla de la cuadrícula
+    default void cellRevealed(int row, int col, int value) {
+    }
+
+    // Se generó la operación y sus opciones; el jugador debe responder
+    default void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+    }
+
+    // Pasó un segundo de la cuenta regresiva del turno
+    default void timerTicked(int player, int secondsLeft) {
+    }
+
+    // El jugador respondió (o se le acabó el tiempo)
+    default void answerResolved(int player, int selectedAnswer, boolean correct) {
+    }
+
+    // Una casilla volvió a ocultarse al terminar el turno
+    default void cellHidden(int row, int col) {
+    }
+
+    // Todos los jugadores intentaron: fin de la partida
+    default void gameOver(int[] scores) {
+    }
+
+    // Combina dos observadores: cada evento llega primero a first y luego a second
+    static GameListener both(GameListener first, GameListener second) {
+        return new GameListener() {
+            @Override
+            public void gameStarted() {
+                first.gameStarted();
+                second.gameStarted();
+            }
+
+            @Override
+            public void turnStarted(int player) {
+                first.turnStarted(player);
+                second.turnStarted(player);
+            }
+
+            @Override
+            public void cellRevealed(int row, int col, int value) {
+                first.cellRevealed(row, col, value);
+                second.cellRevealed(row, col, value);
+            }
+
+            @Override
+            public void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+                first.operationReady(firstNumber, operator, secondNumber, options);
+                second.operationReady(firstNumber, operator, secondNumber, options);
+            }
+
+            @Override
+            public void timerTicked(int player, int secondsLeft) {
+                first.timerTicked(player, secondsLeft);
+                second.timerTicked(player, secondsLeft);
+            }
+
+            @Override
+            public void answerResolved(int player, int selectedAnswer, boolean correct) {
+                first.answerResolved(player, selectedAnswer, correct);
+                second.answerResolved(player, selectedAnswer, correct);
+            }
+
+            @Override
+            public void cellHidden(int row, int col) {
+                first.cellHidden(row, col);
+                second.cellHidden(row, col);
+            }
+
+            @Override
+            public void gameOver(int[] scores) {
+                first.gameOver(scores);
+                second.gameOver(scores);
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+// Reproduce a máxima velocidad una partida a partir de su MoveLog. Como toda la aleatoriedad
+// sale de la semilla registrada, la partida resultante es idéntica a la original (cuadrícula,
+// operaciones, opciones y puntuaciones).
+public final class GameReplay {
+    private final byte[] data; // Registro binario
+    private int offset; // Posición de lectura
+
+    private GameReplay(byte[] data) {
+        this.data = data;
+    }
+
+    // Reproduce el registro completo y devuelve el motor en su estado final
+    public static GameEngine replay(byte[] log) {
+        return replay(log, new GameListener() { });
+    }
+
+    // Reproduce el registro notificando cada evento al observador indicado
+    public static GameEngine replay(byte[] log, GameListener listener) {
+        GameReplay reader = new GameReplay(log);
+        for (byte b : MoveLog.MAGIC) {
+            if (reader.readByte() != b) {
+                throw new IllegalArgumentException("El registro no es un MoveLog");
+            }
+        }
+        int version = reader.readByte();
+        if (version != MoveLog.VERSION) {
+            throw new IllegalArgumentException("Versión de registro no soportada: " + version);
+        }
+        int gridSize = reader.readVarint();
+        long seed = 0;
+        for (int i = 0; i < 8; i++) {
+            seed = (seed << 8) | reader.readByte();
+        }
+        GameEngine engine = new GameEngine(gridSize, seed, reader.readVarint(), reader.readVarint(), reader.readVarint());
+        engine.setListener(listener);
+        while (reader.offset < log.length) {
+            int code = reader.readByte();
+            boolean accepted;
+            switch (code) {
+                case MoveLog.NEW_GAME:
+                    int level = reader.readVarint() - 1;
+                    engine.newGame(level, reader.readByte());
+                    accepted = true;
+                    break;
+                case MoveLog.SELECT:
+                    int cell = reader.readVarint();
+                    accepted = engine.selectCell(cell / gridSize, cell % gridSize);
+                    break;
+                case MoveLog.ANSWER:
+                    int zigzag = reader.readVarint();
+                    accepted = engine.answer((zigzag >>> 1) ^ -(zigzag & 1));
+                    break;
+                case MoveLog.NEXT_PLAYER:
+                    accepted = engine.getState() == GameEngine.State.NEXT_PLAYER;
+                    engine.nextPlayer();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Código de movimiento desconocido: " + code);
+            }
+            // Un movimiento rechazado significa que la reproducción se desvió del original
+            if (!accepted) {
+                throw new IllegalStateException("Movimiento inválido en el byte " + reader.offset);
+            }
+        }
+        return engine;
+    }
+
+    private int readByte() {
+        if (offset >= data.length) {
+            throw new IllegalArgumentException("Registro truncado");
+        }
+        return data[offset++] & 0xFF;
+    }
+
+    private int readVarint() {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint demasiado largo");
+    }
+}
\ No newline at end of file
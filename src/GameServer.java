@@ -0,0 +1,148 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Servidor de sesiones: aloja muchas partidas independientes en una sola JVM, sin JavaFX.
+// Cada movimiento se ejecuta en un hilo virtual (Java 21+) o, en versiones anteriores, en un
+// grupo fijo con un hilo por núcleo. Las sesiones se serializan con su propio candado.
+// Todas las cuentas regresivas comparten una rueda de tiempo impulsada por un único hilo.
+public class GameServer implements AutoCloseable {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100); // Resolución de los temporizadores
+    private static final int WHEEL_SIZE = 64; // Ranuras de la rueda (6,4 s por vuelta)
+    private final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>(); // Sesiones activas
+    private final AtomicLong nextId = new AtomicLong(1); // Generador de identificadores
+    private final ExecutorService executor; // Ejecutor de movimientos
+    private final int gridSize; // Tamaño de la cuadrícula de cada partida
+    private final GameClock clock; // Reloj que impulsa la rueda de tiempo
+    private final TimingWheel timingWheel; // Temporizadores de todos los turnos
+    private final ScheduledExecutorService pulse; // Hilo que avanza la rueda (null si se avanza a mano)
+    private final SplittableRandom seeds; // Deriva la semilla de cada sesión
+
+    public GameServer() {
+        this(GameEngine.GRID_SIZE);
+    }
+
+    public GameServer(int gridSize) {
+        this(gridSize, GameClock.SYSTEM, true);
+    }
+
+    // Con drivePulse en false la rueda solo avanza mediante advanceTimers (útil con relojes falsos)
+    public GameServer(int gridSize, GameClock clock, boolean drivePulse) {
+        this(gridSize, clock, drivePulse, ThreadLocalRandom.current().nextLong());
+    }
+
+    // Con la misma semilla las sesiones se crean con las mismas semillas, en el mismo orden
+    public GameServer(int gridSize, GameClock clock, boolean drivePulse, long seed) {
+        this.gridSize = gridSize;
+        this.seeds = new SplittableRandom(seed);
+        this.clock = clock;
+        this.executor = newExecutor(Runtime.getRuntime().availableProcessors());
+        this.timingWheel = new TimingWheel(TICK_NANOS, WHEEL_SIZE, clock.nanoTime());
+        if (drivePulse) {
+            pulse = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "mathgrid-timer-pulse");
+                thread.setDaemon(true);
+                return thread;
+            });
+            pulse.scheduleAtFixedRate(this::advanceTimers, TICK_NANOS, TICK_NANOS, TimeUnit.NANOSECONDS);
+        } else {
+            pulse = null;
+        }
+    }
+
+    // Avanza la rueda de tiempo hasta la hora actual del reloj
+    public void advanceTimers() {
+        timingWheel.advanceTo(clock.nanoTime());
+    }
+
+    // Crea un ejecutor con hilos virtuales si la JVM los soporta, o un grupo fijo de fallbackThreads
+    static ExecutorService newExecutor(int fallbackThreads) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(fallbackThreads);
+        }
+    }
+
+    // Abre una nueva partida y devuelve su identificador
+    public long createSession() {
+        long id;
+        long seed;
+        synchronized (seeds) {
+            id = nextId.getAndIncrement();
+            seed = seeds.nextLong();
+        }
+        sessions.put(id, new GameSession(id, gridSize, seed, timingWheel));
+        return id;
+    }
+
+    // Cierra una partida; los movimientos posteriores fallan
+    public void closeSession(long id) {
+        GameSession session = sessions.remove(id);
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    public GameSession getSession(long id) {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            throw new IllegalArgumentException("Sesión inexistente: " + id);
+        }
+        return session;
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    // Cantidad de cuentas regresivas programadas
+    public int pendingTimers() {
+        return timingWheel.pendingCount();
+    }
+
+    public CompletableFuture<MoveReply> select(long id, int row, int col) {
+        return submit(id, session -> session.select(row, col));
+    }
+
+    public CompletableFuture<MoveReply> answer(long id, int selectedAnswer) {
+        return submit(id, session -> session.answer(selectedAnswer));
+    }
+
+    public CompletableFuture<MoveReply> timeout(long id) {
+        return submit(id, GameSession::timeout);
+    }
+
+    public CompletableFuture<MoveReply> restart(long id) {
+        return submit(id, GameSession::restart);
+    }
+
+    // Ejecuta un movimiento de forma asíncrona sobre la sesión indicada
+    private CompletableFuture<MoveReply> submit(long id, Function<GameSession, MoveReply> move) {
+        return CompletableFuture.supplyAsync(() -> move.apply(getSession(id)), executor);
+    }
+
+    // Detiene el servidor esperando los movimientos en curso; si interrumpen la espera, corta los
+    // movimientos pendientes y deja marcada la interrupción para quien llamó
+    @Override
+    public void close() {
+        if (pulse != null) {
+            pulse.shutdownNow();
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        sessions.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+import java.util.concurrent.locks.ReentrantLock;
+
+// Partida alojada en el servidor. Envuelve un GameEngine y serializa los movimientos con un
+// candado propio, de modo que muchas sesiones avanzan en paralelo sin compartir estado.
+// Sin vista no hay animación: la respuesta pasa de inmediato al siguiente jugador.
+// La cuenta regresiva de cada turno se programa en la rueda de tiempo compartida del servidor.
+public class GameSession implements TurnCountdown.Target {
+    private static final int[] NO_OPTIONS = new int[0];
+    private final long id; // Identificador de la sesión
+    private final GameEngine engine; // Estado de la partida
+    private final ReentrantLock lock = new ReentrantLock(); // Un movimiento a la vez por sesión
+    private final TimingWheel wheel; // Rueda de tiempo compartida por todas las sesiones
+    private final MoveLog moveLog; // Registro de movimientos para reproducir la sesión
+    private TurnCountdown countdown; // Cuenta regresiva del turno en curso
+    private int completedGames = 0; // Partidas terminadas en esta sesión
+
+    GameSession(long id, int gridSize, long seed, TimingWheel wheel) {
+        this.id = id;
+        this.engine = new GameEngine(gridSize, seed);
+        this.wheel = wheel;
+        this.moveLog = engine.startRecording();
+        engine.newGame();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    // Selecciona una casilla en nombre del jugador actual
+    public MoveReply select(int row, int col) {
+        lock.lock();
+        try {
+            boolean accepted = engine.selectCell(row, col);
+            if (accepted && engine.getState() == GameEngine.State.ANSWER) {
+                countdown = new TurnCountdown(wheel, this, engine.getTurnNumber());
+                countdown.start();
+            }
+            return reply(accepted);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Responde la operación pendiente y pasa al siguiente jugador
+    public MoveReply answer(int selectedAnswer) {
+        lock.lock();
+        try {
+            boolean accepted = engine.answer(selectedAnswer);
+            if (accepted) {
+                advance();
+            }
+            return reply(accepted);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Se agotó el tiempo del jugador actual
+    public MoveReply timeout() {
+        lock.lock();
+        try {
+            boolean accepted = engine.timeout();
+            if (accepted) {
+                advance();
+            }
+            return reply(accepted);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Comienza una nueva partida en la misma sesión
+    public MoveReply restart() {
+        lock.lock();
+        try {
+            stopCountdown();
+            engine.newGame();
+            return reply(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Tick de la cuenta regresiva (llamado desde el pulso de la rueda de tiempo)
+    @Override
+    public boolean tickSecond(int turn) {
+        lock.lock();
+        try {
+            boolean counting = engine.tickSecond(turn);
+            if (!counting && engine.getState() == GameEngine.State.NEXT_PLAYER) {
+                countdown = null;
+                advance(); // Se agotó el tiempo
+            }
+            return counting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Libera la cuenta regresiva pendiente al cerrar la sesión
+    void close() {
+        lock.lock();
+        try {
+            stopCountdown();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Copia del registro binario de movimientos, reproducible con GameReplay
+    public byte[] exportMoveLog() {
+        lock.lock();
+        try {
+            return moveLog.toByteArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getTimeLeft() {
+        lock.lock();
+        try {
+            return engine.getTimeLeft();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCurrentPlayer() {
+        lock.lock();
+        try {
+            return engine.getCurrentPlayer();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public GameEngine.State getState() {
+        lock.lock();
+        try {
+            return engine.getState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCompletedGames() {
+        lock.lock();
+        try {
+            return completedGames;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getScore(int player) {
+        lock.lock();
+        try {
+            return engine.getScore(player);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void stopCountdown() {
+        if (countdown != null) {
+            countdown.cancel();
+            countdown = null;
+        }
+    }
+
+    // Cambia de turno y cuenta la partida si terminó
+    private void advance() {
+        stopCountdown();
+        engine.nextPlayer();
+        if (engine.getState() == GameEngine.State.GAME_OVER) {
+            completedGames++;
+        }
+    }
+
+    private MoveReply reply(boolean accepted) {
+        int[] options = engine.getState() == GameEngine.State.ANSWER ? engine.getAnswerOptions() : NO_OPTIONS;
+        return new MoveReply(accepted, engine.getState(), engine.getCurrentPlayer(), options);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+import javafx.geometry.Orientation;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.GridPane;
+
+// Vista virtualizada de la cuadrícula: solo existen botones para las casillas visibles
+// (como máximo MAX_VISIBLE x MAX_VISIBLE). Al desplazarse, los mismos botones se vuelven a
+// pintar con las casillas de la nueva ventana, así que la memoria y el grafo de escena no
+// crecen con el tamaño del tablero. Los cambios se acumulan y flush() los pinta una sola vez por
+// pulso; el aspecto de cada casilla es una pseudoclase (CellState) que solo se toca si cambió.
+public class GridView extends BorderPane {
+    public static final int MAX_VISIBLE = 8; // Casillas visibles por lado
+
+    // Pone el texto de la casilla (fila, columna) del tablero en el botón y devuelve su estado
+    @FunctionalInterface
+    public interface CellPainter {
+        CellState paint(Button button, int row, int col);
+    }
+
+    // Recibe los clics en coordenadas del tablero completo
+    @FunctionalInterface
+    public interface CellClickHandler {
+        void clicked(int row, int col);
+    }
+
+    private final int gridSize; // Tamaño del tablero completo
+    private final int visible; // Casillas visibles por lado
+    private final Button[] pool; // Botones reutilizados para la ventana visible
+    private final CellState[] applied; // Estado aplicado a cada botón del pool
+    private final boolean[] dirty; // Botones pendientes de pintar en el próximo flush
+    private final int[] dirtySlots; // Posiciones pendientes, en las primeras dirtyCount posiciones
+    private int dirtyCount; // Cantidad de botones pendientes
+    private final GridPane cellPane; // Contenedor de los botones visibles
+    private final CellPainter painter; // Pinta cada casilla
+    private int firstVisibleRow = 0; // Primera fila visible
+    private int firstVisibleCol = 0; // Primera columna visible
+
+    public GridView(int gridSize, CellPainter painter, CellClickHandler clickHandler) {
+        this.gridSize = gridSize;
+        this.visible = Math.min(gridSize, MAX_VISIBLE);
+        this.painter = painter;
+        this.pool = new Button[visible * visible];
+        this.applied = new CellState[pool.length];
+        this.dirty = new boolean[pool.length];
+        this.dirtySlots = new int[pool.length];
+        cellPane = new GridPane();
+        cellPane.setHgap(5.0);
+        cellPane.setVgap(5.0);
+        cellPane.setAlignment(Pos.CENTER);
+
+        // Crea los botones de la ventana visible
+        for (int row = 0; row < visible; row++) {
+            for (int col = 0; col < visible; col++) {
+                Button button = new Button("?");
+                button.setMinSize(50.0, 50.0);
+                button.getStyleClass().add("cell"); // Estilo de mathgrid.css, sin CSS en línea por botón
+                button.pseudoClassStateChanged(CellState.HIDDEN.pseudoClass(), true);
+                applied[row * visible + col] = CellState.HIDDEN;
+                final int viewRow = row;
+                final int viewCol = col;
+                // Traduce el clic a coordenadas del tablero según el desplazamiento actual
+                button.setOnAction(event -> clickHandler.clicked(firstVisibleRow + viewRow, firstVisibleCol + viewCol));
+                pool[row * visible + col] = button;
+                cellPane.add(button, col, row);
+            }
+        }
+        setCenter(cellPane);
+
+        // Barras de desplazamiento solo si el tablero no cabe en la ventana
+        if (gridSize > visible) {
+            ScrollBar rowBar = createScrollBar(Orientation.VERTICAL);
+            rowBar.valueProperty().addListener((observable, oldValue, newValue) ->
+                scrollTo((int) Math.round(newValue.doubleValue()), firstVisibleCol));
+            ScrollBar colBar = createScrollBar(Orientation.HORIZONTAL);
+            colBar.valueProperty().addListener((observable, oldValue, newValue) ->
+                scrollTo(firstVisibleRow, (int) Math.round(newValue.doubleValue())));
+            // La rueda del ratón desplaza las filas (con Shift, las columnas)
+            cellPane.setOnScroll(event -> {
+                ScrollBar bar = event.isShiftDown() ? colBar : rowBar;
+                double delta = event.getDeltaY() != 0.0 ? event.getDeltaY() : event.getDeltaX();
+                bar.setValue(Math.max(0.0, Math.min(bar.getMax(), bar.getValue() - Math.signum(delta))));
+            });
+            setRight(rowBar);
+            setBottom(colBar);
+        }
+    }
+
+    private ScrollBar createScrollBar(Orientation orientation) {
+        ScrollBar bar = new ScrollBar();
+        bar.setOrientation(orientation);
+        bar.setMin(0.0);
+        bar.setMax(gridSize - visible);
+        bar.setUnitIncrement(1.0);
+        bar.setBlockIncrement(visible);
+        bar.setVisibleAmount(visible);
+        return bar;
+    }
+
+    // Mueve la ventana visible y vuelve a pintar solo los botones de la ventana
+    private void scrollTo(int row, int col) {
+        if (row == firstVisibleRow && col == firstVisibleCol) {
+            return;
+        }
+        firstVisibleRow = row;
+        firstVisibleCol = col;
+        refreshAll();
+    }
+
+    // Marca todas las casillas visibles para pintarlas en el próximo flush
+    public void refreshAll() {
+        for (int slot = 0; slot < pool.length; slot++) {
+            markDirty(slot);
+        }
+    }
+
+    // Marca una casilla del tablero para pintarla en el próximo flush si está en la ventana visible
+    public void refreshCell(int row, int col) {
+        int viewRow = row - firstVisibleRow;
+        int viewCol = col - firstVisibleCol;
+        if (viewRow >= 0 && viewRow < visible && viewCol >= 0 && viewCol < visible) {
+            markDirty(viewRow * visible + viewCol);
+        }
+    }
+
+    // Pinta de una vez las casillas marcadas (una vez por pulso): cada una a lo sumo una vez,
+    // aunque haya cambiado varias veces, y solo cambia las pseudoclases si cambió su estado
+    public void flush() {
+        for (int i = 0; i < dirtyCount; i++) {
+            int slot = dirtySlots[i];
+            dirty[slot] = false;
+            Button button = pool[slot];
+            CellState state = painter.paint(button, firstVisibleRow + slot / visible, firstVisibleCol + slot % visible);
+            if (state != applied[slot]) {
+                button.pseudoClassStateChanged(applied[slot].pseudoClass(), false);
+                button.pseudoClassStateChanged(state.pseudoClass(), true);
+                applied[slot] = state;
+            }
+        }
+        dirtyCount = 0;
+    }
+
+    private void markDirty(int slot) {
+        if (!dirty[slot]) {
+            dirty[slot] = true;
+            dirtySlots[dirtyCount++] = slot;
+        }
+    }
+
+    // Habilita o deshabilita toda la cuadrícula en O(1), sin recorrer las casillas
+    public void setInputEnabled(boolean enabled) {
+        cellPane.setDisable(!enabled);
+    }
+}
\ No newline at end of file
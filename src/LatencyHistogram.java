@@ -0,0 +1,90 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Histograma de latencias al estilo HDR: cubetas logarítmicas (una por potencia de dos) divididas
+// en 16 sub-cubetas lineales, así el error relativo de cualquier percentil es menor al 7% con solo
+// 608 contadores para todo el rango de 1 ns a unos 18 minutos. Registrar es un incremento atómico,
+// sin candados ni asignaciones, y se puede hacer desde cualquier hilo.
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 4; // 16 sub-cubetas por potencia de dos
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 40; // Valores hasta 2^41 - 1 ns; los mayores se acotan
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+    private final String name; // Nombre de la métrica (para el texto exportado)
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS); // Registros por cubeta
+    private final AtomicLong max = new AtomicLong(); // Mayor valor registrado
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    // Registra una latencia en nanosegundos (los valores negativos cuentan como 0)
+    public void record(long nanos) {
+        long value = Math.max(0L, Math.min(nanos, MAX_VALUE));
+        counts.incrementAndGet(index(value));
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    // Mayor valor que cae en la cubeta
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BITS);
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    // Percentil (0 a 100) en nanosegundos; devuelve el borde superior de la cubeta, acotado al máximo
+    public long percentile(double percent) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percent / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    // Agrega el histograma en formato de texto: cantidad, percentiles y máximo
+    void appendTo(StringBuilder out) {
+        out.append(name).append("_count ").append(getCount()).append('\n');
+        for (double quantile : new double[] {50.0, 90.0, 99.0, 99.9}) {
+            out.append(name).append("{quantile=\"").append(quantile / 100.0).append("\"} ")
+                .append(percentile(quantile)).append('\n');
+        }
+        out.append(name).append("_max ").append(getMax()).append('\n');
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.random.RandomGenerator;
+
+// Cliente local que juega contra un GameServer en el mismo proceso, sin red.
+// Elige casillas al azar y responde con una de las opciones recibidas; registra la latencia
+// de ida y vuelta de cada movimiento en nanosegundos.
+public class LoopbackClient {
+    private final GameServer server; // Servidor al que se conecta
+    private final RandomGenerator random; // Aleatoriedad de las jugadas
+    private final int gridSize; // Tamaño de la cuadrícula de las partidas
+    private long[] latencies = new long[1024]; // Latencias medidas (ns)
+    private int latencyCount = 0; // Cantidad de latencias registradas
+
+    public LoopbackClient(GameServer server, int gridSize, RandomGenerator random) {
+        this.server = server;
+        this.gridSize = gridSize;
+        this.random = random;
+    }
+
+    // Juega una partida completa en una sesión nueva y la cierra al terminar. Cada movimiento sale
+    // del estado que informó la última respuesta del servidor: si rechaza una casilla se elige otra,
+    // y si la cuenta regresiva agotó el turno se sigue con el turno que indique la respuesta.
+    public void playMatch() throws InterruptedException, ExecutionException {
+        long session = server.createSession();
+        try {
+            int cells = gridSize * gridSize;
+            int first = 0; // Primera casilla aceptada del turno en curso
+            GameEngine.State state = GameEngine.State.SELECT_FIRST;
+            MoveReply reply = null;
+            while (state != GameEngine.State.GAME_OVER) {
+                if (state == GameEngine.State.ANSWER) {
+                    // Responde al azar entre las opciones que trajo la respuesta del servidor
+                    int choice = reply.getOption(random.nextInt(reply.getOptionCount()));
+                    reply = timed(() -> server.answer(session, choice).get());
+                } else {
+                    // La segunda casilla siempre es distinta de la primera
+                    int cell = state == GameEngine.State.SELECT_SECOND
+                        ? (first + 1 + random.nextInt(cells - 1)) % cells
+                        : random.nextInt(cells);
+                    reply = timed(() -> server.select(session, cell / gridSize, cell % gridSize).get());
+                    if (reply.isAccepted() && state == GameEngine.State.SELECT_FIRST) {
+                        first = cell;
+                    }
+                }
+                state = reply.getState();
+            }
+        } finally {
+            server.closeSession(session);
+        }
+    }
+
+    // Movimiento bloqueante cuya latencia se mide
+    private interface Move {
+        MoveReply send() throws InterruptedException, ExecutionException;
+    }
+
+    private MoveReply timed(Move move) throws InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        MoveReply reply = move.send();
+        long elapsed = System.nanoTime() - start;
+        if (latencyCount == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        latencies[latencyCount++] = elapsed;
+        return reply;
+    }
+
+    // Copia de las latencias registradas hasta ahora
+    public long[] getLatencies() {
+        return Arrays.copyOf(latencies, latencyCount);
+    }
+}
\ No newline at end of file
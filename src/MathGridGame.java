@@ -1,290 +1,387 @@
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Random;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.application.Application;
-import javafx.application.Platform;
-import javafx.geometry.Insets;
-import javafx.geometry.Pos;
-import javafx.scene.Scene;
-import javafx.scene.control.Button;
-import javafx.scene.control.Label;
-import javafx.scene.layout.GridPane;
-import javafx.scene.layout.VBox;
-import javafx.stage.Stage;
-import javafx.util.Duration;
-
-public class MathGridGame extends Application {
-    // Constantes para el tamaño de la cuadrícula y el rango de números
-    private static final int GRID_SIZE = 8; // Tamaño de la cuadrícula (8x8)
-    private static final int MAX_NUMBER = 99; // Valor máximo de los números
-    private static final int MIN_NUMBER = 10; // Valor mínimo de los números
-    private static final int TIMER_SECONDS = 15; // Duración del temporizador en segundos
-    private final int[][] gridNumbers = new int[GRID_SIZE][GRID_SIZE]; // Matriz de números
-    private final Button[][] gridButtons = new Button[GRID_SIZE][GRID_SIZE]; // Matriz de botones
-    private int selectedCount = 0; // Contador de casillas seleccionadas
-    private int firstNumber; // Primer número seleccionado
-    private int secondNumber; // Segundo número seleccionado
-    private int firstRow; // Fila del primer botón
-    private int firstCol; // Columna del primer botón
-    private int secondRow; // Fila del segundo botón
-    private int secondCol; // Columna del segundo botón
-    private String operation; // Operación matemática (+ o -)
-    private int correctResult; // Resultado correcto de la operación
-    private int currentPlayer = 0; // Jugador actual (0, 1 o 2)
-    private final int[] playerScores = new int[3]; // Puntuaciones de los 3 jugadores
-    private final boolean[] playerAttempts = new boolean[3]; // Intentos de los jugadores
-    private final Label statusLabel; // Etiqueta para mensajes de estado
-    private final Label playerLabel; // Etiqueta para puntuaciones
-    private final GridPane answerGrid; // Panel para opciones de respuesta
-    private final VBox root; // Contenedor principal
-    private volatile boolean isProcessing = false; // Bandera para evitar clics múltiples
-    private Timeline timer; // Temporizador para limitar tiempo de respuesta
-    private int timeLeft; // Tiempo restante en segundos
-
-    // Constructor: inicializa componentes de la interfaz
-    public MathGridGame() {
-        statusLabel = new Label("Jugador 1: Selecciona una casilla");
-        playerLabel = new Label("Puntuaciones: Jugador 1: 0 | Jugador 2: 0 | Jugador 3: 0");
-        answerGrid = new GridPane();
-        root = new VBox(10.0);
-    }
-
-    // Método principal para iniciar la aplicación JavaFX
-    @Override
-    public void start(Stage stage) {
-        // Inicializa la cuadrícula con números aleatorios
-        initializeGrid();
-        // Configura el contenedor principal
-        root.setAlignment(Pos.CENTER);
-        root.setPadding(new Insets(10.0));
-        // Crea la cuadrícula de botones
-        GridPane gridPane = new GridPane();
-        gridPane.setHgap(5.0);
-        gridPane.setVgap(5.0);
-        gridPane.setAlignment(Pos.CENTER);
-
-        // Crea y configura los botones de la cuadrícula
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < GRID_SIZE; col++) {
-                Button button = new Button("?");
-                button.setMinSize(50.0, 50.0);
-                button.setStyle("-fx-font-size: 14;");
-                gridButtons[row][col] = button;
-                final int currentRow = row;
-                final int currentCol = col;
-                // Asigna acción al botón para manejar clics
-                button.setOnAction(event -> {
-                    if (!isProcessing) {
-                        isProcessing = true;
-                        handleButtonClick(currentRow, currentCol);
-                    }
-                });
-                gridPane.add(button, col, row);
-            }
-        }
-
-        // Configura el panel para las opciones de respuesta
-        answerGrid.setHgap(5.0);
-        answerGrid.setVgap(5.0);
-        answerGrid.setAlignment(Pos.CENTER);
-        // Agrega componentes a la interfaz
-        root.getChildren().addAll(gridPane, answerGrid, statusLabel, playerLabel);
-        // Configura la escena y la muestra
-        Scene scene = new Scene(root, 500.0, 600.0);
-        stage.setTitle("MathGrid: Desafio Numerico");
-        stage.setScene(scene);
-        stage.show();
-    }
-
-    // Inicializa la cuadrícula con números aleatorios entre MIN_NUMBER y MAX_NUMBER
-    private void initializeGrid() {
-        Random random = new Random();
-        for (int row = 0; row < GRID_SIZE; row++) {
-            for (int col = 0; col < GRID_SIZE; col++) {
-                gridNumbers[row][col] = random.nextInt(MAX_NUMBER - MIN_NUMBER + 1) + MIN_NUMBER;
-            }
-        }
-    }
-
-    // Maneja el clic en un botón de la cuadrícula
-    private void handleButtonClick(int row, int col) {
-        if (!gridButtons[row][col].getText().equals("?") || selectedCount >= 2) {
-            isProcessing = false;
-            return;
-        }
-        gridButtons[row][col].setText(String.valueOf(gridNumbers[row][col]));
-        selectedCount++;
-        if (selectedCount == 1) {
-            // Guarda el primer número y su posición
-            firstNumber = gridNumbers[row][col];
-            firstRow = row;
-            firstCol = col;
-            statusLabel.setText("Jugador " + (currentPlayer + 1) + ": Selecciona otra casilla");
-            isProcessing = false;
-        } else if (selectedCount == 2) {
-            // Guarda el segundo número, genera operación y muestra opciones
-            secondNumber = gridNumbers[row][col];
-            secondRow = row;
-            secondCol = col;
-            generateOperation();
-            statusLabel.setText("Jugador " + (currentPlayer + 1) + ": Encuentra: " + 
-                firstNumber + " " + operation + " " + secondNumber + " = ? (" + TIMER_SECONDS + "s)");
-            disableGridButtons();
-            showAnswerOptions();
-        }
-    }
-
-    // Genera una operación aleatoria (+ o -) y calcula el resultado correcto
-    private void generateOperation() {
-        Random random = new Random();
-        int op = random.nextInt(2);
-        operation = op == 0 ? "+" : "-";
-        correctResult = op == 0 ? firstNumber + secondNumber : firstNumber - secondNumber;
-    }
-
-    // Muestra las opciones de respuesta (una correcta, tres incorrectas)
-    private void showAnswerOptions() {
-        answerGrid.getChildren().clear();
-        ArrayList<Integer> options = new ArrayList<>();
-        options.add(correctResult);
-        Random random = new Random();
-        // Genera opciones incorrectas únicas
-        while (options.size() < 4) {
-            int wrongAnswer = correctResult + random.nextInt(21) - 10;
-            if (wrongAnswer != correctResult && !options.contains(wrongAnswer) && 
-                wrongAnswer >= MIN_NUMBER && wrongAnswer <= MAX_NUMBER) {
-                options.add(wrongAnswer);
-            }
-        }
-        Collections.shuffle(options);
-        // Crea botones para cada opción de respuesta
-        for (int i = 0; i < options.size(); i++) {
-            Button answerButton = new Button(String.valueOf(options.get(i)));
-            answerButton.setMinSize(50.0, 50.0);
-            answerButton.setStyle("-fx-font-size: 14;");
-            int finalAnswer = options.get(i);
-            answerButton.setOnAction(event -> {
-                if (!isProcessing) {
-                    isProcessing = true;
-                    stopTimer();
-                    handleAnswerClick(finalAnswer);
-                }
-            });
-            answerGrid.add(answerButton, i, 0);
-        }
-        startTimer();
-    }
-
-    // Inicia un temporizador de 15 segundos para la respuesta
-    private void startTimer() {
-        if (timer != null) {
-            timer.stop(); // Detiene cualquier temporizador previo
-        }
-        timeLeft = TIMER_SECONDS;
-        statusLabel.setText("Jugador " + (currentPlayer + 1) + ": Encuentra: " + 
-            firstNumber + " " + operation + " " + secondNumber + " = ? (" + timeLeft + "s)");
-        timer = new Timeline(new KeyFrame(Duration.seconds(1.0), event -> {
-            timeLeft--;
-            if (timeLeft >= 0) {
-                statusLabel.setText("Jugador " + (currentPlayer + 1) + ": Encuentra: " + 
-                    firstNumber + " " + operation + " " + secondNumber + " = ? (" + timeLeft + "s)");
-            } else {
-                stopTimer();
-                handleAnswerClick(-999); // Respuesta incorrecta si se acaba el tiempo
-            }
-        }));
-        timer.setCycleCount(TIMER_SECONDS + 1);
-        timer.play();
-    }
-
-    // Detiene el temporizador si está activo
-    private void stopTimer() {
-        if (timer != null) {
-            timer.stop();
-            timer = null; // Libera el temporizador para evitar acumulación
-        }
-        isProcessing = false;
-    }
-
-    // Maneja la selección de una respuesta
-    private void handleAnswerClick(int selectedAnswer) {
-        playerAttempts[currentPlayer] = true;
-        if (selectedAnswer == correctResult) {
-            // Suma puntos y resalta en verde si es correcto
-            playerScores[currentPlayer] += 10;
-            gridButtons[firstRow][firstCol].setStyle("-fx-background-color: lightgreen;");
-            gridButtons[secondRow][secondCol].setStyle("-fx-background-color: lightgreen;");
-            statusLabel.setText("Jugador " + (currentPlayer + 1) + ": ¡Correcto!");
-        } else {
-            // Resalta en rojo si es incorrecto
-            gridButtons[firstRow][firstCol].setStyle("-fx-background-color: lightcoral;");
-            gridButtons[secondRow][secondCol].setStyle("-fx-background-color: lightcoral;");
-            statusLabel.setText("Jugador " + (currentPlayer + 1) + ": ¡Incorrecto!");
-        }
-        updatePlayerLabel();
-        Platform.runLater(this::nextPlayer);
-    }
-
-    // Pasa al siguiente jugador o termina el juego
-    private void nextPlayer() {
-        answerGrid.getChildren().clear();
-        selectedCount = 0;
-        // Restablece los botones seleccionados
-        gridButtons[firstRow][firstCol].setText("?");
-        gridButtons[firstRow][firstCol].setStyle("");
-        gridButtons[secondRow][secondCol].setText("?");
-        gridButtons[secondRow][secondCol].setStyle("");
-        enableGridButtons();
-        currentPlayer = (currentPlayer + 1) % 3;
-        statusLabel.setText("Jugador " + (currentPlayer + 1) + ": Selecciona una casilla");
-        // Verifica si todos los jugadores han intentado
-        for (boolean attempt : playerAttempts) {
-            if (!attempt) {
-                isProcessing = false;
-                return;
-            }
-        }
-        endGame();
-    }
-
-    // Actualiza la etiqueta de puntuaciones
-    private void updatePlayerLabel() {
-        playerLabel.setText("Puntuaciones: Jugador 1: " + playerScores[0] + 
-            " | Jugador 2: " + playerScores[1] + " | Jugador 3: " + playerScores[2]);
-    }
-
-    // Desactiva todos los botones de la cuadrícula
-    private void disableGridButtons() {
-        for (Button[] row : gridButtons) {
-            for (Button button : row) {
-                button.setDisable(true);
-            }
-        }
-    }
-
-    // Activa los botones de la cuadrícula que aún muestran "?"
-    private void enableGridButtons() {
-        for (Button[] row : gridButtons) {
-            for (Button button : row) {
-                if (button.getText().equals("?")) {
-                    button.setDisable(false);
-                }
-            }
-        }
-    }
-
-    // Finaliza el juego y muestra las puntuaciones finales
-    private void endGame() {
-        statusLabel.setText("¡Juego terminado! Puntuaciones finales: Jugador 1: " + 
-            playerScores[0] + " | Jugador 2: " + playerScores[1] + " | Jugador 3: " + playerScores[2]);
-        disableGridButtons();
-        isProcessing = false;
-    }
-
-    // Punto de entrada principal para ejecutar la aplicación
-    public static void main(String[] args) {
-        launch(args);
-    }
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+// Vista JavaFX del juego: solo observa al GameEngine y le envía las acciones del usuario
+public class MathGridGame extends Application implements GameListener {
+    private static final String STYLESHEET = "mathgrid.css"; // Hoja de estilos compartida (junto a las clases)
+    // Con -Dmathgrid.startupProbe=true informa los tiempos de arranque y cierra la aplicación
+    // (lo usan StartupBenchmark y la ejecución de entrenamiento del archivo CDS)
+    private static final boolean STARTUP_PROBE = Boolean.getBoolean("mathgrid.startupProbe");
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50); // Resolución de la rueda de tiempo
+    private GameEngine engine; // Estado y reglas del juego
+    private GridView gridView; // Cuadrícula virtualizada (solo las casillas visibles)
+    private CellState turnState = CellState.REVEALED; // Estado de las casillas del turno (color tras responder)
+    private final Label statusLabel; // Etiqueta para mensajes de estado
+    private final Label playerLabel; // Etiqueta para puntuaciones
+    private final GridPane answerGrid; // Panel para opciones de respuesta
+    private final VBox root; // Contenedor principal
+    private final AtomicBoolean isProcessing = new AtomicBoolean(true); // Evita clics múltiples (se toma con CAS);
+                                                                        // tomado hasta que empieza la partida
+    private final TimingWheel timingWheel =
+        new TimingWheel(TICK_NANOS, 64, System.nanoTime()); // Temporizadores de la vista
+    private TurnCountdown timer; // Cuenta regresiva del turno en curso
+    private StatusText texts; // Textos en caché (dependen de la cantidad de jugadores)
+    private final BatchedText statusText; // Texto pendiente de statusLabel (se aplica por pulso)
+    private final BatchedText playerText; // Texto pendiente de playerLabel (se aplica por pulso)
+    private BotDriver bots; // Bots de la partida (null si todos los jugadores son humanos)
+    private MetricsServer metricsServer; // Punto de consulta de métricas (solo con -Dmathgrid.metrics=true)
+    private long lastPulseNanos; // Pulso anterior de JavaFX, para detectar bloqueos
+    private Runnable pendingStart; // Construcción de la partida, pendiente hasta el primer cuadro
+    private long lastTickNanos; // Tick anterior de la cuenta regresiva, para medir la fluctuación
+    private long handoffNanos; // Instante en que se pidió el cambio de turno con runLater
+    private ScoreLog scoreLog; // Registro persistente de respuestas (opcional, --scores=archivo)
+
+    // Constructor: inicializa componentes de la interfaz
+    public MathGridGame() {
+        statusLabel = new Label();
+        playerLabel = new Label();
+        statusText = new BatchedText(statusLabel::setText, statusLabel.getText());
+        playerText = new BatchedText(playerLabel::setText, playerLabel.getText());
+        answerGrid = new GridPane();
+        root = new VBox(10.0);
+    }
+
+    // Método principal para iniciar la aplicación JavaFX.
+    // El tamaño del tablero se puede indicar con --size=N (hasta GameEngine.MAX_GRID_SIZE) y la
+    // semilla con --seed=N para repetir exactamente una partida. Con --scores=archivo cada respuesta
+    // se guarda en un ScoreLog (el jugador N se registra como estudiante N), y con
+    // --difficulty=adaptive cada nueva partida ajusta el tablero a la habilidad de los jugadores.
+    // Para el aula: --players=N jugadores, --teams=N equipos y --rounds=N rondas. Con --bots=N los
+    // últimos N asientos los ocupan bots de muestreo (SamplingBot) que piensan --bot-ms=N milisegundos.
+    // --operators=+-*/ elige los operadores de las operaciones (por defecto +-).
+    // Para arrancar rápido, primero se muestra la cuadrícula tapada y recién después del primer
+    // cuadro se construye el estado de la partida (motor, bots, registros).
+    @Override
+    public void start(Stage stage) {
+        Map<String, String> named = getParameters().getNamed();
+        int gridSize = Integer.parseInt(named.getOrDefault("size", String.valueOf(GameEngine.GRID_SIZE)));
+        // Configura el contenedor principal
+        root.setAlignment(Pos.CENTER);
+        root.setPadding(new Insets(10.0));
+        // Crea la cuadrícula virtualizada; cada clic se procesa de uno en uno
+        gridView = new GridView(gridSize, this::paintCell, (row, col) -> {
+            if (isProcessing.compareAndSet(false, true)) {
+                handleButtonClick(row, col);
+            }
+        });
+        gridView.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+
+        // Configura el panel para las opciones de respuesta
+        answerGrid.setHgap(5.0);
+        answerGrid.setVgap(5.0);
+        answerGrid.setAlignment(Pos.CENTER);
+        // Agrega componentes a la interfaz
+        root.getChildren().addAll(gridView, answerGrid, statusLabel, playerLabel);
+        // Configura la escena y la muestra; los estilos salen de una hoja compartida por todos los nodos
+        Scene scene = new Scene(root, 500.0, 600.0);
+        scene.getStylesheets().add(Objects.requireNonNull(MathGridGame.class.getResource(STYLESHEET),
+            "Falta " + STYLESHEET + " en el classpath (copiar src/" + STYLESHEET + " junto a las clases)")
+            .toExternalForm());
+        stage.setTitle("MathGrid: Desafio Numerico");
+        stage.setScene(scene);
+        stage.show();
+        pendingStart = () -> {
+            if (STARTUP_PROBE) {
+                System.out.println("first-frame-ms=" + millisSinceLaunch());
+            }
+            startGame(named, gridSize);
+            if (STARTUP_PROBE) {
+                System.out.println("ready-ms=" + millisSinceLaunch());
+                Platform.exit();
+            }
+        };
+        // Un único pulso por cuadro avanza la rueda (los ticks llegan como eventos del motor) y
+        // aplica las casillas y los textos pendientes: cada nodo cambia a lo sumo una vez por cuadro
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                // El primer cuadro se dibuja al final de este pulso; la partida se arma justo después
+                if (pendingStart != null) {
+                    Platform.runLater(pendingStart);
+                    pendingStart = null;
+                }
+                if (Metrics.ENABLED) {
+                    if (lastPulseNanos != 0) {
+                        Metrics.recordPulseGap(now - lastPulseNanos);
+                    }
+                    lastPulseNanos = now;
+                }
+                timingWheel.advanceTo(now);
+                gridView.flush();
+                statusText.flush();
+                playerText.flush();
+            }
+        }.start();
+    }
+
+    // Construye el estado de la partida (después del primer cuadro) y la inicia
+    private void startGame(Map<String, String> named, int gridSize) {
+        String seed = named.get("seed");
+        int players = Integer.parseInt(named.getOrDefault("players", String.valueOf(GameEngine.PLAYER_COUNT)));
+        int teams = Integer.parseInt(named.getOrDefault("teams", "0"));
+        int rounds = Integer.parseInt(named.getOrDefault("rounds", "1"));
+        engine = new GameEngine(gridSize, seed == null ? ThreadLocalRandom.current().nextLong() : Long.parseLong(seed), players, teams, rounds);
+        texts = new StatusText(players, teams);
+        playerText.set(texts.scores(engine.getScoreboard()));
+        // Con las métricas activas se exponen en http://127.0.0.1:puerto/metrics
+        if (Metrics.ENABLED) {
+            try {
+                metricsServer = MetricsServer.start(Integer.getInteger("mathgrid.metrics.port", 9464));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        // Inicia la partida: el motor notifica a la vista mediante GameListener
+        engine.setListener(this);
+        String operators = named.get("operators");
+        if (operators != null) {
+            engine.setOperators(Operator.parse(operators));
+        }
+        if ("adaptive".equals(named.get("difficulty"))) {
+            engine.setDifficultyEngine(new DifficultyEngine(GameClock.SYSTEM, players));
+        }
+        int botCount = Integer.parseInt(named.getOrDefault("bots", "0"));
+        if (botCount > 0) {
+            long budget = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(named.getOrDefault("bot-ms", "200")));
+            BotPlayer[] seats = new BotPlayer[players];
+            for (int seat = Math.max(0, players - botCount); seat < players; seat++) {
+                seats[seat] = new SamplingBot(BotSkill.STANDARD, ForkJoinPool.commonPool(), budget, engine.getSeed() + seat);
+            }
+            bots = new BotDriver(engine, seats, Platform::runLater, ForkJoinPool.commonPool());
+            engine.addListener(bots);
+        }
+        String scores = named.get("scores");
+        if (scores != null) {
+            try {
+                scoreLog = ScoreLog.open(Path.of(scores));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int[] studentIds = new int[players];
+            for (int player = 0; player < players; player++) {
+                studentIds[player] = player + 1;
+            }
+            engine.addListener(new ScoreRecorder(scoreLog, GameClock.SYSTEM, studentIds));
+        }
+        engine.newGame();
+        gridView.refreshAll();
+    }
+
+    // Milisegundos desde que se lanzó el proceso (solo para STARTUP_PROBE)
+    private static long millisSinceLaunch() {
+        Instant launched = ProcessHandle.current().info().startInstant().orElse(Instant.now());
+        return Duration.between(launched, Instant.now()).toMillis();
+    }
+
+    // Al cerrar la ventana se guarda el índice del registro de puntuaciones
+    @Override
+    public void stop() throws IOException {
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+        if (scoreLog != null) {
+            scoreLog.close();
+        }
+    }
+
+    // Pinta una casilla visible según el estado del motor y devuelve su estado visual
+    private CellState paintCell(Button button, int row, int col) {
+        if (engine != null && engine.isRevealed(row, col)) {
+            button.setText(StatusText.number(engine.getNumber(row, col)));
+            boolean selected = (row == engine.getFirstRow() && col == engine.getFirstCol()) ||
+                (row == engine.getSecondRow() && col == engine.getSecondCol());
+            if (!selected) {
+                return CellState.REVEALED;
+            }
+            return engine.isLocked(row, col) ? CellState.LOCKED : turnState;
+        }
+        button.setText("?");
+        return CellState.HIDDEN;
+    }
+
+    // Maneja el clic en un botón de la cuadrícula
+    private void handleButtonClick(int row, int col) {
+        long start = Metrics.ENABLED ? System.nanoTime() : 0L;
+        if (!engine.selectCell(row, col)) {
+            isProcessing.set(false);
+        }
+        if (Metrics.ENABLED) {
+            Metrics.record(Metrics.CLICK_TO_REVEAL, System.nanoTime() - start);
+        }
+    }
+
+    // Maneja la selección de una respuesta
+    private void handleAnswerClick(int selectedAnswer) {
+        engine.answer(selectedAnswer);
+    }
+
+    // Si el turno es de un humano (en los turnos de los bots la vista no acepta clics)
+    private boolean isHumanTurn() {
+        return bots == null || !bots.isBot(engine.getCurrentPlayer());
+    }
+
+    @Override
+    public void turnStarted(int player) {
+        answerGrid.getChildren().clear();
+        boolean human = isHumanTurn();
+        if (human) {
+            enableGridButtons();
+        } else {
+            disableGridButtons();
+        }
+        statusText.set(texts.selectFirst(player));
+        isProcessing.set(!human);
+        if (Metrics.ENABLED && handoffNanos != 0) {
+            Metrics.record(Metrics.TURN_HANDOFF, System.nanoTime() - handoffNanos);
+            handoffNanos = 0;
+        }
+    }
+
+    @Override
+    public void cellRevealed(int row, int col, int value) {
+        gridView.refreshCell(row, col);
+        if (engine.getState() == GameEngine.State.SELECT_SECOND) {
+            statusText.set(texts.selectSecond(engine.getCurrentPlayer()));
+            isProcessing.set(!isHumanTurn());
+        }
+    }
+
+    // Muestra la operación y las opciones de respuesta (una correcta, tres incorrectas)
+    @Override
+    public void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+        long start = Metrics.ENABLED ? System.nanoTime() : 0L;
+        disableGridButtons();
+        // La primera casilla se pintó antes de que el par quedara bloqueado
+        gridView.refreshCell(engine.getFirstRow(), engine.getFirstCol());
+        answerGrid.getChildren().clear();
+        // Crea botones para cada opción de respuesta
+        for (int i = 0; i < options.length; i++) {
+            Button answerButton = new Button(StatusText.number(options[i]));
+            answerButton.setMinSize(50.0, 50.0);
+            answerButton.getStyleClass().add("answer");
+            int finalAnswer = options[i];
+            answerButton.setOnAction(event -> {
+                if (isProcessing.compareAndSet(false, true)) {
+                    stopTimer();
+                    handleAnswerClick(finalAnswer);
+                }
+            });
+            answerGrid.add(answerButton, i, 0);
+        }
+        startTimer();
+        isProcessing.set(!isHumanTurn()); // Habilita los botones de respuesta si responde un humano
+        if (Metrics.ENABLED) {
+            Metrics.record(Metrics.OPTIONS_SETUP, System.nanoTime() - start);
+        }
+    }
+
+    // Inicia la cuenta regresiva de 15 segundos para la respuesta en la rueda compartida
+    private void startTimer() {
+        if (timer != null) {
+            timer.cancel(); // Detiene cualquier temporizador previo
+        }
+        statusText.set(questionText());
+        timer = new TurnCountdown(timingWheel, engine, engine.getTurnNumber());
+        timer.start();
+        lastTickNanos = System.nanoTime();
+    }
+
+    // Actualiza el tiempo restante; al agotarse el motor registra la respuesta incorrecta
+    @Override
+    public void timerTicked(int player, int secondsLeft) {
+        statusText.set(questionText());
+        if (Metrics.ENABLED) {
+            // Fluctuación: cuánto se alejó el tick del segundo exacto desde el anterior
+            long now = System.nanoTime();
+            Metrics.record(Metrics.TIMER_JITTER, Math.abs(now - lastTickNanos - TimeUnit.SECONDS.toNanos(1)));
+            lastTickNanos = now;
+        }
+    }
+
+    // Texto de la operación pendiente con el tiempo restante (ya armado, sin concatenar)
+    private String questionText() {
+        return texts.question(engine.getCurrentPlayer(), engine.getFirstNumber(), engine.getOperator(),
+            engine.getSecondNumber(), engine.getTimeLeft());
+    }
+
+    // Detiene el temporizador si está activo
+    private void stopTimer() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null; // Libera el temporizador para evitar acumulación
+        }
+        isProcessing.set(false);
+    }
+
+    // Resalta las casillas según el resultado y programa el cambio de turno
+    @Override
+    public void answerResolved(int player, int selectedAnswer, boolean correct) {
+        timer = null; // El turno terminó (por respuesta o por tiempo agotado)
+        turnState = correct ? CellState.CORRECT : CellState.WRONG;
+        gridView.refreshCell(engine.getFirstRow(), engine.getFirstCol());
+        gridView.refreshCell(engine.getSecondRow(), engine.getSecondCol());
+        statusText.set(texts.result(player, correct));
+        updatePlayerLabel();
+        if (Metrics.ENABLED) {
+            handoffNanos = System.nanoTime();
+        }
+        Platform.runLater(engine::nextPlayer);
+    }
+
+    // Restablece una casilla oculta
+    @Override
+    public void cellHidden(int row, int col) {
+        turnState = CellState.REVEALED;
+        gridView.refreshCell(row, col);
+    }
+
+    // Actualiza la etiqueta de puntuaciones (el texto solo se rearma si cambió algún puntaje)
+    private void updatePlayerLabel() {
+        playerText.set(texts.scores(engine.getScoreboard()));
+    }
+
+    // Desactiva la cuadrícula (un solo cambio, sin recorrer las casillas)
+    private void disableGridButtons() {
+        gridView.setInputEnabled(false);
+    }
+
+    // Activa la cuadrícula; el motor rechaza los clics sobre casillas ya destapadas
+    private void enableGridButtons() {
+        gridView.setInputEnabled(true);
+    }
+
+    // Finaliza el juego y muestra las puntuaciones finales
+    @Override
+    public void gameOver(int[] scores) {
+        answerGrid.getChildren().clear();
+        statusText.set(texts.gameOver(engine.getScoreboard()));
+        disableGridButtons();
+        isProcessing.set(false);
+    }
+
+    // Punto de entrada principal para ejecutar la aplicación
+    public static void main(String[] args) {
+        launch(args);
+    }
 }
\ No newline at end of file
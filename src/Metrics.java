@@ -0,0 +1,107 @@
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// Métricas de los caminos calientes del juego y de la vista. Se activan con
+// -Dmathgrid.metrics=true; ENABLED es una constante, así que con las métricas apagadas el JIT
+// elimina cada bloque "if (Metrics.ENABLED)" y su costo es cero. Además de los histogramas y
+// contadores (exportados por MetricsServer), cada latencia se emite como evento JFR
+// "mathgrid.Latency" y cada bloqueo del hilo de JavaFX como "mathgrid.FxStall".
+public final class Metrics {
+    public static final boolean ENABLED = Boolean.getBoolean("mathgrid.metrics"); // Interruptor global
+    public static final long STALL_NANOS = 100_000_000L; // Pulso de JavaFX que se considera bloqueo
+
+    // Latencias de la vista y del motor
+    public static final LatencyHistogram CLICK_TO_REVEAL = new LatencyHistogram("mathgrid_click_to_reveal_nanos");
+    public static final LatencyHistogram OPTIONS_SETUP = new LatencyHistogram("mathgrid_options_setup_nanos");
+    public static final LatencyHistogram TIMER_JITTER = new LatencyHistogram("mathgrid_timer_jitter_nanos");
+    public static final LatencyHistogram TURN_HANDOFF = new LatencyHistogram("mathgrid_turn_handoff_nanos");
+    public static final LatencyHistogram FX_PULSE_GAP = new LatencyHistogram("mathgrid_fx_pulse_gap_nanos");
+    private static final LatencyHistogram[] HISTOGRAMS = {
+        CLICK_TO_REVEAL, OPTIONS_SETUP, TIMER_JITTER, TURN_HANDOFF, FX_PULSE_GAP
+    };
+
+    // Contadores
+    public static final LongAdder ANSWERS_CORRECT = new LongAdder(); // Respuestas correctas
+    public static final LongAdder ANSWERS_WRONG = new LongAdder(); // Respuestas incorrectas (sin tiempos agotados)
+    public static final LongAdder TIMEOUTS = new LongAdder(); // Tiempos agotados (TIMEOUT_ANSWER)
+    public static final LongAdder FX_STALLS = new LongAdder(); // Pulsos de JavaFX más largos que STALL_NANOS
+
+    private Metrics() {
+    }
+
+    // Registra una latencia en su histograma y como evento JFR
+    public static void record(LatencyHistogram histogram, long nanos) {
+        histogram.record(nanos);
+        LatencyEvent event = new LatencyEvent();
+        if (event.shouldCommit()) {
+            event.metric = histogram.getName();
+            event.nanos = nanos;
+            event.commit();
+        }
+    }
+
+    // Cuenta una respuesta según su resultado
+    public static void recordAnswer(int selectedAnswer, boolean correct) {
+        if (correct) {
+            ANSWERS_CORRECT.increment();
+        } else if (selectedAnswer == GameEngine.TIMEOUT_ANSWER) {
+            TIMEOUTS.increment();
+        } else {
+            ANSWERS_WRONG.increment();
+        }
+    }
+
+    // Registra el intervalo entre dos pulsos de JavaFX y detecta bloqueos del hilo de la interfaz
+    public static void recordPulseGap(long gapNanos) {
+        FX_PULSE_GAP.record(gapNanos);
+        if (gapNanos > STALL_NANOS) {
+            FX_STALLS.increment();
+            FxStallEvent event = new FxStallEvent();
+            if (event.shouldCommit()) {
+                event.gap = gapNanos;
+                event.commit();
+            }
+        }
+    }
+
+    // Todas las métricas en texto plano, una por línea (formato compatible con Prometheus)
+    public static String render() {
+        StringBuilder out = new StringBuilder(2048);
+        out.append("mathgrid_metrics_enabled ").append(ENABLED ? 1 : 0).append('\n');
+        out.append("mathgrid_answers_correct ").append(ANSWERS_CORRECT.sum()).append('\n');
+        out.append("mathgrid_answers_wrong ").append(ANSWERS_WRONG.sum()).append('\n');
+        out.append("mathgrid_answers_timeout ").append(TIMEOUTS.sum()).append('\n');
+        out.append("mathgrid_fx_stalls ").append(FX_STALLS.sum()).append('\n');
+        for (LatencyHistogram histogram : HISTOGRAMS) {
+            histogram.appendTo(out);
+        }
+        return out.toString();
+    }
+
+    // Evento JFR de una latencia medida
+    @Name("mathgrid.Latency")
+    @Label("MathGrid: latencia")
+    @Category("MathGrid")
+    static final class LatencyEvent extends Event {
+        @Label("Métrica")
+        String metric;
+
+        @Label("Duración")
+        @Timespan(Timespan.NANOSECONDS)
+        long nanos;
+    }
+
+    // Evento JFR de un bloqueo del hilo de JavaFX
+    @Name("mathgrid.FxStall")
+    @Label("MathGrid: bloqueo del hilo de JavaFX")
+    @Category("MathGrid")
+    static final class FxStallEvent extends Event {
+        @Label("Intervalo entre pulsos")
+        @Timespan(Timespan.NANOSECONDS)
+        long gap;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+// Punto de consulta local de las métricas: GET http://127.0.0.1:puerto/metrics devuelve
+// Metrics.render() en texto plano. Solo escucha en la interfaz de loopback.
+public final class MetricsServer implements AutoCloseable {
+    private final HttpServer server; // Servidor HTTP del JDK
+
+    private MetricsServer(HttpServer server) {
+        this.server = server;
+    }
+
+    // Arranca el servidor en el puerto indicado (0 = cualquier puerto libre)
+    public static MetricsServer start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = Metrics.render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return new MetricsServer(server);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+// Registro binario compacto de los movimientos de una partida. Junto con la semilla y el tamaño
+// de la cuadrícula basta para reproducir la partida bit a bit con GameReplay.
+// Formato: "MGRL", versión (1 byte), tamaño, semilla, jugadores, equipos y rondas, y luego un código de 1 byte por
+// movimiento seguido de sus argumentos como varint (las respuestas en zigzag, por ser negativas).
+public final class MoveLog {
+    static final byte[] MAGIC = {'M', 'G', 'R', 'L'}; // Identificador del formato
+    static final int VERSION = 1; // Versión del formato
+    static final int NEW_GAME = 1; // Nueva partida (regenera la cuadrícula con el nivel indicado)
+    static final int SELECT = 2; // Casilla seleccionada (índice fila * tamaño + columna)
+    static final int ANSWER = 3; // Respuesta elegida (TIMEOUT_ANSWER si se agotó el tiempo)
+    static final int NEXT_PLAYER = 4; // Cambio de turno
+    private byte[] buffer = new byte[64]; // Bytes escritos
+    private int size = 0; // Cantidad de bytes válidos
+
+    public MoveLog(int gridSize, long seed, int playerCount, int teamCount, int rounds) {
+        for (byte b : MAGIC) {
+            writeByte(b);
+        }
+        writeByte(VERSION);
+        writeVarint(gridSize);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (seed >>> shift));
+        }
+        writeVarint(playerCount);
+        writeVarint(teamCount);
+        writeVarint(rounds);
+    }
+
+    void newGame(int level, int operatorMask) {
+        writeByte(NEW_GAME);
+        writeVarint(level + 1); // UNIFORM_LEVEL (-1) se guarda como 0
+        writeByte(operatorMask); // Operator.mask de los operadores de la partida
+    }
+
+    void select(int cell) {
+        writeByte(SELECT);
+        writeVarint(cell);
+    }
+
+    void answer(int selectedAnswer) {
+        writeByte(ANSWER);
+        writeVarint((selectedAnswer << 1) ^ (selectedAnswer >> 31)); // Zigzag
+    }
+
+    void nextPlayer() {
+        writeByte(NEXT_PLAYER);
+    }
+
+    // Cantidad de bytes del registro
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    private void writeByte(int value) {
+        if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, size * 2);
+        }
+        buffer[size++] = (byte) value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+// Respuesta inmutable del servidor a un movimiento de una sesión
+public final class MoveReply {
+    private final boolean accepted; // Si el movimiento fue válido
+    private final GameEngine.State state; // Estado de la partida después del movimiento
+    private final int currentPlayer; // Jugador al que le toca jugar
+    private final int[] options; // Opciones de respuesta (vacío si no se espera respuesta)
+
+    MoveReply(boolean accepted, GameEngine.State state, int currentPlayer, int[] options) {
+        this.accepted = accepted;
+        this.state = state;
+        this.currentPlayer = currentPlayer;
+        this.options = options;
+    }
+
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    public GameEngine.State getState() {
+        return state;
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public int[] getOptions() {
+        return options.clone();
+    }
+
+    // Opción i sin copiar el arreglo
+    public int getOption(int index) {
+        return options[index];
+    }
+
+    public int getOptionCount() {
+        return options.length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+// Codificación compacta de una operación en un int: operador (2 bits), primer operando (7 bits) y
+// segundo operando (7 bits). Con operandos de 10 a 99 todo el espacio de problemas tiene
+// Operator.COUNT * 90 * 90 = 32.400 entradas, que index() numera de forma densa para las tablas.
+public final class Operation {
+    private static final int OPERAND_BITS = 7; // Operandos de hasta 127
+    private static final int OPERAND_MASK = (1 << OPERAND_BITS) - 1;
+    private static final int RANGE = GameEngine.MAX_NUMBER - GameEngine.MIN_NUMBER + 1; // Operandos posibles
+    public static final int SPACE = Operator.COUNT * RANGE * RANGE; // Cantidad de operaciones distintas
+
+    private Operation() {
+    }
+
+    public static int encode(int firstNumber, int secondNumber, Operator operator) {
+        return (operator.ordinal() << (2 * OPERAND_BITS)) | (firstNumber << OPERAND_BITS) | secondNumber;
+    }
+
+    public static int firstNumber(int operation) {
+        return (operation >>> OPERAND_BITS) & OPERAND_MASK;
+    }
+
+    public static int secondNumber(int operation) {
+        return operation & OPERAND_MASK;
+    }
+
+    public static Operator operator(int operation) {
+        return Operator.ofOrdinal(operation >>> (2 * OPERAND_BITS));
+    }
+
+    public static int result(int operation) {
+        return operator(operation).apply(firstNumber(operation), secondNumber(operation));
+    }
+
+    // Posición densa de la operación (0 <= index < SPACE)
+    public static int index(int operation) {
+        int operator = operation >>> (2 * OPERAND_BITS);
+        return (operator * RANGE + firstNumber(operation) - GameEngine.MIN_NUMBER) * RANGE +
+            secondNumber(operation) - GameEngine.MIN_NUMBER;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+// Operadores del juego. La partida estándar usa suma y resta; multiplicación y división (cociente
+// entero; los operandos nunca son 0) se pueden activar con GameEngine.setOperators.
+public enum Operator {
+    ADD('+'),
+    SUBTRACT('-'),
+    MULTIPLY('*'),
+    DIVIDE('/');
+
+    public static final int COUNT = 4; // Cantidad de operadores (cabe en 2 bits)
+    private static final Operator[] VALUES = values(); // Copia única para no asignar en cada búsqueda
+    private final char symbol; // Símbolo que se muestra en la operación
+
+    Operator(char symbol) {
+        this.symbol = symbol;
+    }
+
+    public char symbol() {
+        return symbol;
+    }
+
+    public int apply(int firstNumber, int secondNumber) {
+        switch (this) {
+            case ADD:
+                return firstNumber + secondNumber;
+            case SUBTRACT:
+                return firstNumber - secondNumber;
+            case MULTIPLY:
+                return firstNumber * secondNumber;
+            default:
+                return firstNumber / secondNumber;
+        }
+    }
+
+    // Menor resultado posible con operandos entre minNumber y maxNumber
+    public int minResult(int minNumber, int maxNumber) {
+        switch (this) {
+            case ADD:
+            case SUBTRACT:
+                return minNumber - maxNumber; // Suma y resta comparten rango, como en el juego original
+            case MULTIPLY:
+                return minNumber * minNumber;
+            default:
+                return 0;
+        }
+    }
+
+    // Mayor resultado posible con operandos entre minNumber y maxNumber
+    public int maxResult(int minNumber, int maxNumber) {
+        switch (this) {
+            case ADD:
+            case SUBTRACT:
+                return maxNumber + maxNumber;
+            case MULTIPLY:
+                return maxNumber * maxNumber;
+            default:
+                return maxNumber / minNumber;
+        }
+    }
+
+    // Conjunto de operadores como máscara de bits (un bit por ordinal), para el registro de partidas
+    public static int mask(Operator... operators) {
+        int mask = 0;
+        for (Operator operator : operators) {
+            mask |= 1 << operator.ordinal();
+        }
+        return mask;
+    }
+
+    // Operadores de la máscara en orden de declaración
+    public static Operator[] fromMask(int mask) {
+        if (mask <= 0 || mask >= 1 << COUNT) {
+            throw new IllegalArgumentException("Conjunto de operadores inválido: " + mask);
+        }
+        Operator[] operators = new Operator[Integer.bitCount(mask)];
+        int count = 0;
+        for (Operator operator : VALUES) {
+            if ((mask & (1 << operator.ordinal())) != 0) {
+                operators[count++] = operator;
+            }
+        }
+        return operators;
+    }
+
+    // Operadores escritos como símbolos seguidos, por ejemplo "+-*/"
+    public static Operator[] parse(String symbols) {
+        Operator[] operators = new Operator[symbols.length()];
+        for (int i = 0; i < operators.length; i++) {
+            operators[i] = fromSymbol(symbols.charAt(i));
+        }
+        return fromMask(mask(operators));
+    }
+
+    public static Operator ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public static Operator fromSymbol(char symbol) {
+        for (Operator operator : VALUES) {
+            if (operator.symbol == symbol) {
+                return operator;
+            }
+        }
+        throw new IllegalArgumentException("Operador desconocido: " + symbol);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.random.RandomGenerator;
+
+// Caché de las opciones de respuesta de todo el espacio de operaciones. Cada entrada guarda las
+// cuatro opciones como cuatro short empaquetados en un long y se llena la primera vez que se pide,
+// con una semilla propia de la operación, así que su contenido no depende del orden ni del hilo en
+// que se llenó (las repeticiones siguen siendo exactas). Después, servir las opciones es leer un
+// long, desempaquetarlo en el int[] del llamador y mezclarlo: sin asignaciones.
+public final class OptionTable {
+    private static final long TABLE_SEED = 0x4D47524F50544E53L; // Semilla base de las entradas
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L; // Separa las semillas de entradas vecinas
+    // Tabla compartida por todas las partidas con los operandos y distractores estándar
+    public static final OptionTable STANDARD =
+        new OptionTable(StrategyDistractorGenerator.standard(GameEngine.MIN_NUMBER, GameEngine.MAX_NUMBER));
+    private final DistractorGenerator generator; // Generador usado para llenar cada entrada
+    private final AtomicLongArray entries = new AtomicLongArray(Operation.SPACE); // 0 = todavía sin llenar
+
+    public OptionTable(DistractorGenerator generator) {
+        this.generator = generator;
+    }
+
+    // Copia en options (DistractorGenerator.OPTION_COUNT posiciones) las opciones de la operación,
+    // mezcladas con random
+    public void fillOptions(int operation, int[] options, RandomGenerator random) {
+        int index = Operation.index(operation);
+        long packed = entries.getAcquire(index);
+        if (packed == 0) {
+            packed = fill(index, operation);
+        }
+        for (int i = 0; i < DistractorGenerator.OPTION_COUNT; i++) {
+            options[i] = (short) (packed >>> (16 * i));
+        }
+        // Mezcla Fisher-Yates sobre el arreglo primitivo
+        for (int i = DistractorGenerator.OPTION_COUNT - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = options[i];
+            options[i] = options[j];
+            options[j] = tmp;
+        }
+    }
+
+    // Genera y publica la entrada (cuatro opciones distintas nunca se empaquetan como 0)
+    private long fill(int index, int operation) {
+        int[] options = new int[DistractorGenerator.OPTION_COUNT];
+        Operator operator = Operation.operator(operation);
+        int first = Operation.firstNumber(operation);
+        int second = Operation.secondNumber(operation);
+        generator.fillOptions(first, second, operator.symbol(), operator.apply(first, second), options,
+            new SplittableRandom(TABLE_SEED ^ (index * GOLDEN_GAMMA)));
+        long packed = 0;
+        for (int i = 0; i < DistractorGenerator.OPTION_COUNT; i++) {
+            packed |= (options[i] & 0xFFFFL) << (16 * i);
+        }
+        entries.setRelease(index, packed);
+        return packed;
+    }
+
+    // Llena todas las entradas de antemano (por ejemplo al arrancar un servidor)
+    public void precompute() {
+        for (int index = 0; index < Operation.SPACE; index++) {
+            if (entries.get(index) == 0) {
+                fill(index, operationAt(index));
+            }
+        }
+    }
+
+    private static int operationAt(int index) {
+        int range = GameEngine.MAX_NUMBER - GameEngine.MIN_NUMBER + 1;
+        int second = index % range + GameEngine.MIN_NUMBER;
+        int first = index / range % range + GameEngine.MIN_NUMBER;
+        return Operation.encode(first, second, Operator.ofOrdinal(index / (range * range)));
+    }
+}
\ No newline at end of file
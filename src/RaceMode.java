@@ -0,0 +1,99 @@
+import java.util.SplittableRandom;
+
+// Modo carrera: en cada ronda se destapa un par de casillas al azar y todos los jugadores responden
+// la misma operación a la vez; la primera respuesta correcta se lleva los puntos. Las respuestas no
+// toman ningún candado (las arbitra RaceRound con CAS); solo abrir y cerrar rondas se serializa.
+//
+// El tablero, la operación, las opciones y el registro de movimientos siguen siendo los del
+// GameEngine, configurado con un único "jugador" que representa al par compartido: al cerrar la
+// ronda se le responde el resultado correcto si hubo ganador o TIMEOUT_ANSWER si no.
+public final class RaceMode {
+    // Desplaza la semilla del flujo de casillas: con la semilla sin cambiar, el primer split() sería
+    // el mismo flujo que llenó el tablero (gridRandom del motor) y el par elegido dependería de sus números
+    private static final long CELL_SEED_GAMMA = 0x9E3779B97F4A7C15L;
+    private final GameEngine engine; // Tablero y operaciones de la carrera
+    private final Scoreboard scoreboard; // Puntuaciones de los jugadores de la carrera
+    private final int playerCount; // Jugadores que compiten
+    private final GameClock clock; // Reloj de las latencias
+    private final SplittableRandom cellRandom; // Flujo propio para elegir el par de cada ronda
+    private volatile RaceRound current; // Ronda abierta (null entre rondas)
+
+    public RaceMode(int gridSize, long seed, int playerCount, int teamCount, int rounds, GameClock clock) {
+        this.engine = new GameEngine(gridSize, seed, 1, 0, rounds);
+        this.scoreboard = new Scoreboard(playerCount, teamCount);
+        this.playerCount = playerCount;
+        this.clock = clock;
+        this.cellRandom = new SplittableRandom(seed + CELL_SEED_GAMMA);
+        engine.newGame();
+    }
+
+    // Destapa un par de casillas y abre la ronda; devuelve null si la carrera terminó
+    public synchronized RaceRound startRound() {
+        if (current != null) {
+            throw new IllegalStateException("La ronda anterior sigue abierta");
+        }
+        if (engine.getState() != GameEngine.State.SELECT_FIRST) {
+            return null;
+        }
+        int first = engine.randomFreeCell(cellRandom);
+        engine.selectCell(first / engine.getGridSize(), first % engine.getGridSize());
+        int second = engine.randomFreeCell(cellRandom);
+        engine.selectCell(second / engine.getGridSize(), second % engine.getGridSize());
+        current = new RaceRound(engine.getFirstNumber(), engine.getOperator(), engine.getSecondNumber(),
+            engine.getCorrectResult(), engine.getAnswerOptions(), playerCount, clock);
+        return current;
+    }
+
+    // Respuesta de un jugador a la ronda abierta; sin candados, desde cualquier hilo
+    public RaceRound.Outcome answer(int player, int selectedAnswer) {
+        RaceRound round = current;
+        return round == null ? RaceRound.Outcome.CLOSED : round.answer(player, selectedAnswer);
+    }
+
+    // Cierra la ronda, suma los puntos del ganador y oculta el par; devuelve el ganador o -1
+    public synchronized int finishRound() {
+        RaceRound round = current;
+        if (round == null) {
+            throw new IllegalStateException("No hay una ronda abierta");
+        }
+        int winner = round.close();
+        current = null;
+        if (winner >= 0) {
+            scoreboard.add(winner, GameEngine.POINTS_PER_CORRECT);
+        }
+        engine.answer(winner >= 0 ? round.getCorrectResult() : GameEngine.TIMEOUT_ANSWER);
+        engine.nextPlayer();
+        return winner;
+    }
+
+    // Si ya se jugaron todas las rondas
+    public synchronized boolean isOver() {
+        return engine.getState() == GameEngine.State.GAME_OVER;
+    }
+
+    public RaceRound getCurrentRound() {
+        return current;
+    }
+
+    public synchronized int getScore(int player) {
+        return scoreboard.getScore(player);
+    }
+
+    // Los mejores jugadores de la carrera (ver Scoreboard.topPlayers)
+    public synchronized int topPlayers(int[] players) {
+        return scoreboard.topPlayers(players);
+    }
+
+    public synchronized int getTeamScore(int team) {
+        return scoreboard.getTeamScore(team);
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    // Motor de la carrera (usado por pruebas)
+    GameEngine getEngine() {
+        return engine;
+    }
+}
\ No newline at end of file
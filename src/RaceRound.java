@@ -0,0 +1,125 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Una ronda del modo carrera: todos los jugadores responden la misma operación a la vez, desde
+// cualquier hilo. Sin candados: cada jugador reserva su única respuesta con un CAS sobre su casilla
+// y la primera respuesta correcta gana con un CAS sobre el ganador. La latencia de cada jugador
+// se mide en nanosegundos desde que se abrió la ronda; se escribe después de la respuesta elegida,
+// así que quien ve que un jugador respondió también ve su respuesta.
+public final class RaceRound {
+    private static final int OPEN = -1; // Sin ganador todavía
+    private static final int CLOSED = -2; // Terminó sin ganador
+    private static final long NOT_ANSWERED = -1L; // Latencia de quien no respondió
+    private static final long PENDING = -2L; // Respuesta reservada que todavía no se publicó
+
+    // Resultado de una respuesta
+    public enum Outcome {
+        WON, // Primera respuesta correcta: gana la ronda
+        TOO_LATE, // Correcta, pero otro jugador ya había ganado
+        WRONG, // Incorrecta
+        ALREADY_ANSWERED, // El jugador ya había respondido en esta ronda
+        CLOSED // La ronda ya terminó
+    }
+
+    private final int firstNumber; // Operación de la ronda
+    private final char operator;
+    private final int secondNumber;
+    private final int correctResult; // Resultado correcto
+    private final int[] options; // Opciones de respuesta (compartidas por todos)
+    private final GameClock clock; // Reloj de las latencias
+    private final long openedNanos; // Instante en que se abrió la ronda
+    private final AtomicInteger winner = new AtomicInteger(OPEN); // Ganador, OPEN o CLOSED
+    private final AtomicIntegerArray chosen; // Respuesta de cada jugador (válida si respondió)
+    private final AtomicLongArray latencies; // Latencia de cada jugador; además marca quién respondió
+
+    RaceRound(int firstNumber, char operator, int secondNumber, int correctResult, int[] options, int playerCount,
+              GameClock clock) {
+        this.firstNumber = firstNumber;
+        this.operator = operator;
+        this.secondNumber = secondNumber;
+        this.correctResult = correctResult;
+        this.options = options;
+        this.clock = clock;
+        this.chosen = new AtomicIntegerArray(playerCount);
+        this.latencies = new AtomicLongArray(playerCount);
+        for (int player = 0; player < playerCount; player++) {
+            latencies.set(player, NOT_ANSWERED);
+        }
+        this.openedNanos = clock.nanoTime();
+    }
+
+    // Registra la respuesta de un jugador; se puede llamar desde cualquier hilo
+    public Outcome answer(int player, int selectedAnswer) {
+        long latency = clock.nanoTime() - openedNanos; // Antes de competir, para no medir la espera
+        if (winner.get() == CLOSED) {
+            return Outcome.CLOSED;
+        }
+        if (!latencies.compareAndSet(player, NOT_ANSWERED, PENDING)) {
+            return Outcome.ALREADY_ANSWERED;
+        }
+        chosen.set(player, selectedAnswer);
+        latencies.set(player, latency); // Publica la respuesta
+        if (selectedAnswer != correctResult) {
+            return Outcome.WRONG;
+        }
+        // Si la ronda se cerró después de la primera comprobación, la respuesta llegó tarde a una ronda cerrada
+        int previous = winner.compareAndExchange(OPEN, player);
+        if (previous == OPEN) {
+            return Outcome.WON;
+        }
+        return previous == CLOSED ? Outcome.CLOSED : Outcome.TOO_LATE;
+    }
+
+    // Cierra la ronda; devuelve el ganador o -1 si nadie acertó a tiempo
+    public int close() {
+        winner.compareAndSet(OPEN, CLOSED);
+        return getWinner();
+    }
+
+    // Ganador de la ronda (-1 si todavía no hay o si terminó sin ganador)
+    public int getWinner() {
+        int current = winner.get();
+        return current >= 0 ? current : -1;
+    }
+
+    public boolean isClosed() {
+        return winner.get() != OPEN;
+    }
+
+    // Latencia de la respuesta del jugador en nanosegundos (-1 si no respondió)
+    public long getLatencyNanos(int player) {
+        long latency = latencies.get(player);
+        return latency >= 0 ? latency : NOT_ANSWERED;
+    }
+
+    public boolean hasAnswered(int player) {
+        return latencies.get(player) >= 0;
+    }
+
+    // Respuesta elegida por el jugador (solo válida si respondió)
+    public int getChosenAnswer(int player) {
+        return chosen.get(player);
+    }
+
+    public int getFirstNumber() {
+        return firstNumber;
+    }
+
+    public char getOperator() {
+        return operator;
+    }
+
+    public int getSecondNumber() {
+        return secondNumber;
+    }
+
+    public int getCorrectResult() {
+        return correctResult;
+    }
+
+    // Copia de las opciones de respuesta
+    public int[] getOptions() {
+        return options.clone();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+import java.util.SplittableRandom;
+
+// Bot básico: destapa dos casillas libres al azar y responde según su modelo de habilidad
+public final class RandomBot implements BotPlayer {
+    private final BotSkill skill; // Precisión por nivel de dificultad
+    private final SplittableRandom random; // Flujo propio del bot
+
+    public RandomBot(BotSkill skill, long seed) {
+        this.skill = skill;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int[] chooseCells(BotView view) {
+        int first = random.nextInt(view.getFreeCount());
+        int second = random.nextInt(view.getFreeCount() - 1);
+        if (second >= first) {
+            second++;
+        }
+        return new int[] {view.getFreeCell(first), view.getFreeCell(second)};
+    }
+
+    @Override
+    public int chooseAnswer(int firstNumber, char operator, int secondNumber, int correctResult, int[] options) {
+        return skill.chooseAnswer(firstNumber, operator, secondNumber, correctResult, options, random);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Bot fuerte: elige el par de casillas por muestreo ponderado por su habilidad, en paralelo. Los
+// candidatos son las casillas libres cuyo número recuerda y, como todas las casillas desconocidas
+// son equivalentes para él, dos representantes de las desconocidas. Cada muestra sortea los números
+// ocultos (según los que ya vio) y el operador, y pesa los puntos del acierto con la precisión de su
+// BotSkill; el par con más puntos esperados gana. No juega el resto de la partida: las casillas se
+// vuelven a tapar al terminar el turno, así que el par elegido no cambia los turnos siguientes.
+// Los pares ordenados se reparten en tareas fork-join que muestrean hasta agotar el tiempo del turno.
+public final class SamplingBot implements BotPlayer {
+    private static final int MAX_KNOWN = 48; // Casillas recordadas que se consideran como candidatas
+    private static final int MIN_PRIOR = 8; // Números vistos necesarios para usarlos como distribución
+    private static final int LEAF_PAIRS = 64; // Pares por tarea hoja
+    private static final int BATCH = 32; // Muestras por par entre consultas al reloj
+    private final BotSkill skill; // Precisión por nivel de dificultad
+    private final ForkJoinPool pool; // Hilos del muestreo
+    private final long budgetNanos; // Tiempo de pensamiento por jugada
+    private final SplittableRandom random; // Flujo del bot; cada jugada usa un flujo derivado
+    private long lastSamples; // Muestras de la última jugada
+    private long totalSamples; // Muestras acumuladas
+    private long totalNanos; // Tiempo de pensamiento acumulado
+
+    public SamplingBot(BotSkill skill, ForkJoinPool pool, long budgetNanos, long seed) {
+        this.skill = skill;
+        this.pool = pool;
+        this.budgetNanos = budgetNanos;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public synchronized int[] chooseCells(BotView view) {
+        if (view.getFreeCount() < 2) {
+            throw new IllegalStateException("No quedan dos casillas libres");
+        }
+        long start = System.nanoTime();
+        Search search = new Search(view, random.split());
+        lastSamples = pool.invoke(search.new Evaluate(0, search.pairCount, start + budgetNanos, search.random));
+        totalSamples += lastSamples;
+        totalNanos += System.nanoTime() - start;
+        return search.best();
+    }
+
+    @Override
+    public synchronized int chooseAnswer(int firstNumber, char operator, int secondNumber, int correctResult,
+                                         int[] options) {
+        return skill.chooseAnswer(firstNumber, operator, secondNumber, correctResult, options, random);
+    }
+
+    public synchronized long getLastSamples() {
+        return lastSamples;
+    }
+
+    public synchronized long getTotalSamples() {
+        return totalSamples;
+    }
+
+    // Rendimiento de la evaluación: muestras por segundo y por hilo del pool
+    public synchronized double getSamplesPerSecondPerCore() {
+        return totalNanos == 0 ? 0.0 : totalSamples * 1e9 / totalNanos / pool.getParallelism();
+    }
+
+    // Estado de la búsqueda de una jugada
+    private final class Search {
+        private final SplittableRandom random; // Flujo de esta jugada
+        private final int[] cells; // Casilla de cada candidato
+        private final int[] values; // Número de cada candidato (0 = desconocido)
+        private final int[] prior; // Números vistos en casillas libres, para sortear los desconocidos
+        private final int priorCount;
+        private final int[] firstSlot; // Candidato que se destapa primero en cada par
+        private final int[] secondSlot; // Candidato que se destapa segundo
+        private final double[] totals; // Puntos esperados acumulados por par
+        private final long[] counts; // Muestras por par
+        private final int pairCount;
+        private final Operator[] operators; // Operadores que se pueden sortear
+
+        Search(BotView view, SplittableRandom random) {
+            this.random = random;
+            operators = new Operator[view.getOperatorCount()];
+            for (int i = 0; i < operators.length; i++) {
+                operators[i] = view.getOperator(i);
+            }
+            int free = view.getFreeCount();
+            prior = new int[free];
+            int[] known = new int[MAX_KNOWN];
+            int knownCount = 0;
+            int unknownFirst = -1;
+            int unknownSecond = -1;
+            int unknownSeen = 0;
+            int offset = random.nextInt(free); // Recorrido desde un punto al azar para no sesgar el corte
+            int count = 0;
+            for (int i = 0; i < free; i++) {
+                int cell = view.getFreeCell((offset + i) % free);
+                int value = view.getRemembered(cell);
+                if (value != 0) {
+                    prior[count++] = value;
+                    if (knownCount < MAX_KNOWN) {
+                        known[knownCount++] = cell;
+                    }
+                } else if (unknownSeen++ == 0) {
+                    unknownFirst = cell;
+                } else if (unknownSecond < 0) {
+                    unknownSecond = cell;
+                }
+            }
+            priorCount = count;
+            int candidates = knownCount + (unknownFirst >= 0 ? 1 : 0) + (unknownSecond >= 0 ? 1 : 0);
+            cells = new int[candidates];
+            values = new int[candidates];
+            for (int i = 0; i < knownCount; i++) {
+                cells[i] = known[i];
+                values[i] = view.getRemembered(known[i]);
+            }
+            if (unknownFirst >= 0) {
+                cells[knownCount] = unknownFirst;
+            }
+            if (unknownSecond >= 0) {
+                cells[candidates - 1] = unknownSecond;
+            }
+            pairCount = candidates * (candidates - 1);
+            firstSlot = new int[pairCount];
+            secondSlot = new int[pairCount];
+            int pair = 0;
+            for (int a = 0; a < candidates; a++) {
+                for (int b = 0; b < candidates; b++) {
+                    if (a != b) {
+                        firstSlot[pair] = a;
+                        secondSlot[pair] = b;
+                        pair++;
+                    }
+                }
+            }
+            totals = new double[pairCount];
+            counts = new long[pairCount];
+        }
+
+        // Una muestra del par: sortea lo desconocido y devuelve los puntos esperados
+        private double sample(int pair, SplittableRandom rng) {
+            int first = values[firstSlot[pair]];
+            int second = values[secondSlot[pair]];
+            if (first == 0) {
+                first = sampleHidden(rng);
+            }
+            if (second == 0) {
+                second = sampleHidden(rng);
+            }
+            Operator operator = operators[rng.nextInt(operators.length)];
+            return skill.accuracy(first, operator.symbol(), second) * GameEngine.POINTS_PER_CORRECT;
+        }
+
+        private int sampleHidden(SplittableRandom rng) {
+            if (priorCount >= MIN_PRIOR) {
+                return prior[rng.nextInt(priorCount)];
+            }
+            return rng.nextInt(GameEngine.MIN_NUMBER, GameEngine.MAX_NUMBER + 1);
+        }
+
+        // El par con más puntos esperados
+        int[] best() {
+            int best = 0;
+            double bestScore = -1.0;
+            for (int pair = 0; pair < pairCount; pair++) {
+                double score = totals[pair] / counts[pair];
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = pair;
+                }
+            }
+            return new int[] {cells[firstSlot[best]], cells[secondSlot[best]]};
+        }
+
+        // Tarea fork-join sobre un rango de pares; devuelve cuántas muestras hizo
+        final class Evaluate extends RecursiveTask<Long> {
+            private static final long serialVersionUID = 1L;
+            private final int from;
+            private final int to;
+            private final long deadline;
+            private final transient SplittableRandom rng;
+
+            Evaluate(int from, int to, long deadline, SplittableRandom rng) {
+                this.from = from;
+                this.to = to;
+                this.deadline = deadline;
+                this.rng = rng;
+            }
+
+            @Override
+            protected Long compute() {
+                if (to - from > LEAF_PAIRS) {
+                    int mid = (from + to) >>> 1;
+                    Evaluate left = new Evaluate(from, mid, deadline, rng.split());
+                    left.fork();
+                    long right = new Evaluate(mid, to, deadline, rng).compute();
+                    return right + left.join();
+                }
+                long samples = 0;
+                // Al menos una tanda por par, aunque el tiempo ya se haya agotado
+                do {
+                    for (int pair = from; pair < to; pair++) {
+                        double sum = 0.0;
+                        for (int i = 0; i < BATCH; i++) {
+                            sum += sample(pair, rng);
+                        }
+                        totals[pair] += sum;
+                        counts[pair] += BATCH;
+                    }
+                    samples += (long) BATCH * (to - from);
+                } while (System.nanoTime() < deadline);
+                return samples;
+            }
+        }
+    }
+}
\ No newline at end of file
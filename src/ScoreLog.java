@@ -0,0 +1,300 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.BufferedInputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Registro persistente de respuestas (event sourcing). Cada AnswerEvent se agrega como un
+// registro fijo de 32 bytes en un archivo mapeado en memoria por segmentos; el disco se sincroniza
+// en lotes (cada syncEvery eventos o con sync()). Un índice en disco (.idx) guarda los acumulados
+// por estudiante y cuántos eventos cubre, así que al reiniciar solo se releen los eventos
+// posteriores al último punto de control. Las consultas de la tabla usan esos acumulados.
+//
+// Registro: timestamp (8) | latencia (8) | estudiante (4) | respuesta (4) | jugador (2) |
+// operando 1 (1) | operando 2 (1) | operador con el bit alto si fue correcta (1) |
+// reservado, en cero (1) | suma de control (2). Una suma de control que no coincide (por ejemplo bytes en cero tras una
+// caída) marca el final; al recuperar se borra la suma de control de todo lo que sigue, para que
+// ningún registro anterior a la caída reaparezca cuando se vuelva a escribir sobre el dañado.
+public final class ScoreLog implements AutoCloseable {
+    static final int RECORD_BYTES = 32; // Tamaño de cada evento
+    private static final int CORRECT_BIT = 0x80; // Bit del byte del operador que marca una respuesta correcta
+    private static final int DEFAULT_SEGMENT_RECORDS = 1 << 20; // Eventos por segmento (32 MB)
+    private static final int DEFAULT_SYNC_EVERY = 1024; // Eventos por sincronización a disco
+    private static final int DEFAULT_CHECKPOINT_EVERY = 1 << 20; // Eventos por punto de control
+    private static final int INDEX_MAGIC = 0x4D475349; // "MGSI"
+    private final Path logPath; // Archivo de eventos
+    private final Path indexPath; // Índice con los acumulados
+    private final FileChannel channel; // Canal del archivo de eventos
+    private final int segmentRecords; // Eventos por segmento mapeado
+    private final int syncEvery; // Eventos por lote de sincronización
+    private final int checkpointEvery; // Eventos entre puntos de control del índice
+    private final List<MappedByteBuffer> segments = new ArrayList<>(); // Segmentos mapeados
+    private final HashMap<Integer, StudentStats> students = new HashMap<>(); // Acumulados por estudiante
+    private long eventCount; // Eventos en el registro
+    private long unsynced; // Eventos escritos desde la última sincronización
+    private long checkpointCount; // Eventos cubiertos por el índice en disco
+
+    // Abre (o crea) el registro en logPath; el índice se guarda junto a él con extensión .idx
+    public static ScoreLog open(Path logPath) throws IOException {
+        return new ScoreLog(logPath, DEFAULT_SEGMENT_RECORDS, DEFAULT_SYNC_EVERY, DEFAULT_CHECKPOINT_EVERY);
+    }
+
+    ScoreLog(Path logPath, int segmentRecords, int syncEvery, int checkpointEvery) throws IOException {
+        this.logPath = logPath;
+        this.indexPath = logPath.resolveSibling(logPath.getFileName() + ".idx");
+        this.segmentRecords = segmentRecords;
+        this.syncEvery = syncEvery;
+        this.checkpointEvery = checkpointEvery;
+        this.channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        recover();
+    }
+
+    // Recuperación: carga el índice y vuelve a aplicar solo los eventos válidos posteriores
+    private void recover() throws IOException {
+        long indexed = loadIndex();
+        long capacity = channel.size() / RECORD_BYTES;
+        long count = Math.min(indexed, capacity);
+        while (count < capacity && isValid(count)) {
+            AnswerEvent event = read(count);
+            stats(event.getStudentId()).add(event.isCorrect(), event.getLatencyNanos());
+            count++;
+        }
+        discardTail(count, capacity);
+        eventCount = count;
+        checkpointCount = indexed;
+    }
+
+    // Invalida los registros first .. capacity - 1 que todavía tengan suma de control y los fuerza a disco
+    private void discardTail(long first, long capacity) throws IOException {
+        for (long segmentIndex = first / segmentRecords; segmentIndex * segmentRecords < capacity; segmentIndex++) {
+            long end = Math.min(capacity, (segmentIndex + 1) * segmentRecords);
+            boolean changed = false;
+            for (long index = Math.max(first, segmentIndex * segmentRecords); index < end; index++) {
+                MappedByteBuffer segment = segmentFor(index);
+                int base = (int) (index % segmentRecords) * RECORD_BYTES;
+                if (segment.getShort(base + 30) != 0) {
+                    segment.putShort(base + 30, (short) 0);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                segments.get((int) segmentIndex).force();
+            }
+        }
+    }
+
+    // Agrega un evento y actualiza los acumulados; sincroniza a disco cada syncEvery eventos
+    public synchronized void append(AnswerEvent event) throws IOException {
+        if (event.getPlayer() < 0 || event.getPlayer() > 0xFFFF) {
+            throw new IllegalArgumentException("Jugador fuera de rango: " + event.getPlayer());
+        }
+        MappedByteBuffer segment = segmentFor(eventCount);
+        int base = (int) (eventCount % segmentRecords) * RECORD_BYTES;
+        segment.putLong(base, event.getTimestampMillis());
+        segment.putLong(base + 8, event.getLatencyNanos());
+        segment.putInt(base + 16, event.getStudentId());
+        segment.putInt(base + 20, event.getChosenAnswer());
+        segment.putShort(base + 24, (short) event.getPlayer());
+        segment.put(base + 26, (byte) event.getFirstNumber());
+        segment.put(base + 27, (byte) event.getSecondNumber());
+        segment.put(base + 28, (byte) (event.getOperator() | (event.isCorrect() ? CORRECT_BIT : 0)));
+        segment.put(base + 29, (byte) 0);
+        segment.putShort(base + 30, checksum(segment, base));
+        eventCount++;
+        stats(event.getStudentId()).add(event.isCorrect(), event.getLatencyNanos());
+        if (++unsynced >= syncEvery) {
+            sync();
+        }
+        if (eventCount - checkpointCount >= checkpointEvery) {
+            checkpoint();
+        }
+    }
+
+    // Fuerza a disco los segmentos con eventos pendientes
+    public synchronized void sync() {
+        if (unsynced == 0) {
+            return;
+        }
+        long firstSegment = (eventCount - unsynced) / segmentRecords;
+        long lastSegment = (eventCount - 1) / segmentRecords;
+        for (long i = firstSegment; i <= lastSegment; i++) {
+            segments.get((int) i).force();
+        }
+        unsynced = 0;
+    }
+
+    // Guarda el índice de acumulados de forma atómica: escribe un archivo temporal, lo fuerza a disco
+    // y recién entonces lo renombra, para que tras una caída el índice nunca cubra eventos que no
+    // llegaron a disco ni quede a medio escribir
+    public synchronized void checkpoint() throws IOException {
+        sync();
+        Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + students.size() * 36);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeLong(eventCount);
+            out.writeInt(students.size());
+            for (StudentStats stats : students.values()) {
+                out.writeInt(stats.getStudentId());
+                out.writeLong(stats.getScore());
+                out.writeLong(stats.getCorrect());
+                out.writeLong(stats.getAttempts());
+                out.writeLong(stats.getTotalLatencyNanos());
+            }
+        }
+        try (FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                file.write(buffer);
+            }
+            file.force(true);
+        }
+        Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        checkpointCount = eventCount;
+    }
+
+    // Fuerza a disco la entrada del directorio para que el renombrado sobreviva a una caída.
+    // Algunos sistemas (Windows) no permiten abrir un directorio como canal: ahí alcanza con el renombrado.
+    private void syncDirectory() {
+        Path directory = indexPath.toAbsolutePath().getParent();
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Sin sincronización del directorio el índice anterior sigue siendo válido
+        }
+    }
+
+    // Lee el índice si existe; devuelve cuántos eventos cubre (0 si no hay índice válido)
+    private long loadIndex() throws IOException {
+        if (!Files.exists(indexPath)) {
+            return 0;
+        }
+        try (InputStream file = Files.newInputStream(indexPath);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            if (in.readInt() != INDEX_MAGIC) {
+                return 0;
+            }
+            long covered = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int id = in.readInt();
+                students.put(id, new StudentStats(id, in.readLong(), in.readLong(), in.readLong(), in.readLong()));
+            }
+            return covered;
+        }
+    }
+
+    // Lee el evento en la posición indicada
+    public synchronized AnswerEvent read(long index) throws IOException {
+        MappedByteBuffer segment = segmentFor(index);
+        int base = (int) (index % segmentRecords) * RECORD_BYTES;
+        int operator = segment.get(base + 28) & 0xFF;
+        return new AnswerEvent(segment.getLong(base), segment.getLong(base + 8), segment.getInt(base + 16),
+            segment.getShort(base + 24) & 0xFFFF, segment.get(base + 26) & 0xFF, segment.get(base + 27) & 0xFF,
+            (char) (operator & ~CORRECT_BIT), segment.getInt(base + 20), (operator & CORRECT_BIT) != 0);
+    }
+
+    // Un registro es válido si su suma de control coincide (nunca es cero)
+    private boolean isValid(long index) throws IOException {
+        MappedByteBuffer segment = segmentFor(index);
+        int base = (int) (index % segmentRecords) * RECORD_BYTES;
+        return segment.getShort(base + 30) == checksum(segment, base);
+    }
+
+    // Suma de control FNV-1a de los primeros 30 bytes, con el bit bajo encendido
+    private static short checksum(MappedByteBuffer segment, int base) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < RECORD_BYTES - 2; i++) {
+            hash = (hash ^ (segment.get(base + i) & 0xFF)) * 0x01000193;
+        }
+        return (short) ((hash ^ (hash >>> 16)) | 1);
+    }
+
+    // Segmento mapeado que contiene el evento; mapea los que falten (el archivo crece solo)
+    private MappedByteBuffer segmentFor(long index) throws IOException {
+        int segment = (int) (index / segmentRecords);
+        while (segments.size() <= segment) {
+            long position = (long) segments.size() * segmentRecords * RECORD_BYTES;
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, position, (long) segmentRecords * RECORD_BYTES));
+        }
+        return segments.get(segment);
+    }
+
+    private StudentStats stats(int studentId) {
+        return students.computeIfAbsent(studentId, StudentStats::new);
+    }
+
+    public synchronized long eventCount() {
+        return eventCount;
+    }
+
+    // Acumulado de un estudiante en O(1) (null si nunca respondió)
+    public synchronized StudentStats studentStats(int studentId) {
+        StudentStats stats = students.get(studentId);
+        return stats == null ? null : stats.copy();
+    }
+
+    // Posición de un estudiante en la tabla histórica (1 = primero, 0 si no tiene eventos)
+    public synchronized int rankOf(int studentId) {
+        StudentStats target = students.get(studentId);
+        if (target == null) {
+            return 0;
+        }
+        int rank = 1;
+        for (StudentStats stats : students.values()) {
+            if (stats.compareRank(target) < 0) {
+                rank++;
+            }
+        }
+        return rank;
+    }
+
+    // Los k mejores estudiantes de todos los tiempos, con un montículo de tamaño k: O(n log k)
+    public synchronized List<StudentStats> topStudents(int k) {
+        PriorityQueue<StudentStats> heap = new PriorityQueue<>(Math.max(1, k), (a, b) -> b.compareRank(a));
+        for (StudentStats stats : students.values()) {
+            if (heap.size() < k) {
+                heap.add(stats);
+            } else if (k > 0 && stats.compareRank(heap.peek()) < 0) {
+                heap.poll();
+                heap.add(stats);
+            }
+        }
+        List<StudentStats> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            top.add(heap.poll().copy());
+        }
+        Collections.reverse(top);
+        return top;
+    }
+
+    public Path getLogPath() {
+        return logPath;
+    }
+
+    // Sincroniza, guarda el índice y cierra el archivo. Java no ofrece una forma pública de
+    // desmapear un MappedByteBuffer: al soltar los segmentos sus mapeos siguen vivos hasta que el
+    // recolector libera los buffers (ya sincronizados, así que no hay datos pendientes en ellos).
+    @Override
+    public synchronized void close() throws IOException {
+        checkpoint();
+        segments.clear();
+        channel.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Observador que convierte cada respuesta del motor en un AnswerEvent del ScoreLog. Mide la
+// latencia desde que se mostró la operación hasta que el jugador respondió.
+public final class ScoreRecorder implements GameListener {
+    private final ScoreLog log; // Registro donde se guardan los eventos
+    private final GameClock clock; // Reloj para medir la latencia
+    private final int[] studentIds; // Estudiante que ocupa cada posición de jugador
+    private long shownNanos; // Instante en que se mostró la operación
+    private int firstNumber; // Operandos y operador de la operación en curso
+    private int secondNumber;
+    private char operator;
+
+    public ScoreRecorder(ScoreLog log, GameClock clock, int[] studentIds) {
+        this.log = log;
+        this.clock = clock;
+        this.studentIds = studentIds.clone();
+    }
+
+    @Override
+    public void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+        this.firstNumber = firstNumber;
+        this.secondNumber = secondNumber;
+        this.operator = operator;
+        shownNanos = clock.nanoTime();
+    }
+
+    @Override
+    public void answerResolved(int player, int selectedAnswer, boolean correct) {
+        AnswerEvent event = new AnswerEvent(System.currentTimeMillis(), clock.nanoTime() - shownNanos,
+            studentIds[player], player, firstNumber, secondNumber, operator, selectedAnswer, correct);
+        try {
+            log.append(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
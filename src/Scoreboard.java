@@ -0,0 +1,95 @@
+import java.util.Arrays;
+
+// Puntuaciones de jugadores y equipos con la clasificación siempre ordenada. Los puntajes solo
+// suben durante una partida, así que al sumar puntos el jugador se desplaza hacia arriba desde su
+// posición hasta la que le corresponde: no hay que reordenar a todos después de cada jugada y los
+// k primeros se leen directamente del principio de la clasificación.
+public final class Scoreboard {
+    private final int[] scores; // Puntaje de cada jugador
+    private final int[] order; // Jugadores ordenados por puntaje (empates: menor índice primero)
+    private final int[] position; // Posición de cada jugador dentro de order
+    private final int teamCount; // Equipos (0 = partida individual)
+    private final int[] teamScores; // Puntaje de cada equipo
+
+    // Los jugadores se reparten entre los equipos de forma alternada: el equipo de p es p % teamCount
+    public Scoreboard(int playerCount, int teamCount) {
+        if (teamCount < 0 || teamCount > playerCount) {
+            throw new IllegalArgumentException("Cantidad de equipos inválida: " + teamCount);
+        }
+        scores = new int[playerCount];
+        order = new int[playerCount];
+        position = new int[playerCount];
+        this.teamCount = teamCount;
+        teamScores = new int[teamCount];
+        reset();
+    }
+
+    // Todos los puntajes en cero
+    void reset() {
+        Arrays.fill(scores, 0);
+        Arrays.fill(teamScores, 0);
+        for (int player = 0; player < order.length; player++) {
+            order[player] = player;
+            position[player] = player;
+        }
+    }
+
+    // Suma puntos (no negativos) a un jugador y a su equipo, y lo sube en la clasificación
+    void add(int player, int points) {
+        scores[player] += points;
+        if (teamCount > 0) {
+            teamScores[player % teamCount] += points;
+        }
+        int at = position[player];
+        while (at > 0 && ranksBefore(player, order[at - 1])) {
+            int other = order[at - 1];
+            order[at] = other;
+            position[other] = at;
+            at--;
+        }
+        order[at] = player;
+        position[player] = at;
+    }
+
+    private boolean ranksBefore(int player, int other) {
+        return scores[player] > scores[other] || (scores[player] == scores[other] && player < other);
+    }
+
+    public int getScore(int player) {
+        return scores[player];
+    }
+
+    // Posición del jugador en la clasificación (1 = primero)
+    public int getRank(int player) {
+        return position[player] + 1;
+    }
+
+    // Copia los k mejores jugadores en players (en orden) y devuelve cuántos copió
+    public int topPlayers(int[] players) {
+        int count = Math.min(players.length, order.length);
+        System.arraycopy(order, 0, players, 0, count);
+        return count;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    // Equipo del jugador (-1 en partidas individuales)
+    public int getTeam(int player) {
+        return teamCount == 0 ? -1 : player % teamCount;
+    }
+
+    public int getTeamScore(int team) {
+        return teamScores[team];
+    }
+
+    public int getPlayerCount() {
+        return scores.length;
+    }
+
+    // Copia de los puntajes de todos los jugadores
+    public int[] copyScores() {
+        return scores.clone();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+// Textos de las etiquetas de estado y puntuaciones sin concatenaciones por tick. Los textos fijos
+// de cada jugador se arman una sola vez y quedan en caché; la cuenta regresiva de la operación en
+// curso se arma completa (un texto por segundo) al cambiar la operación, así que cada tick solo
+// devuelve un String ya existente. Todo se construye sobre un único StringBuilder reutilizable.
+public final class StatusText {
+    private static final int SELECT_FIRST = 0; // Plantilla "Selecciona una casilla"
+    private static final int SELECT_SECOND = 1; // Plantilla "Selecciona otra casilla"
+    private static final int CORRECT = 2; // Plantilla "¡Correcto!"
+    private static final int INCORRECT = 3; // Plantilla "¡Incorrecto!"
+    private static final String[] TEMPLATES = {
+        ": Selecciona una casilla", ": Selecciona otra casilla", ": ¡Correcto!", ": ¡Incorrecto!"
+    };
+    public static final int LEADERBOARD_SIZE = 5; // Jugadores en la etiqueta de puntuaciones
+    private static final int MIN_CACHED = -GameEngine.MAX_NUMBER; // Menor número con texto en caché
+    private static final String[] NUMBERS = new String[3 * GameEngine.MAX_NUMBER + 1]; // Casillas y opciones
+    private final StringBuilder builder = new StringBuilder(96); // Búfer compartido por todos los textos
+    private final String[][] playerTexts; // Caché [plantilla][jugador]
+    private final String[] countdown = new String[GameEngine.TIMER_SECONDS + 1]; // Textos de la operación en curso
+    private int countdownPlayer = -1; // Operación a la que corresponde la cuenta regresiva
+    private int countdownFirst;
+    private int countdownSecond;
+    private char countdownOperator;
+    private final int[] nextPlayers; // Jugadores a mostrar en el texto de puntuaciones
+    private final int[] shownPlayers; // Jugadores del último texto de puntuaciones
+    private final int[] shownScores; // Puntuaciones del último texto de puntuaciones
+    private final int[] shownTeams; // Puntuaciones de los equipos del último texto
+    private String scoresText; // Último texto de puntuaciones
+
+    public StatusText(int playerCount, int teamCount) {
+        playerTexts = new String[TEMPLATES.length][playerCount];
+        int shown = Math.min(playerCount, LEADERBOARD_SIZE);
+        nextPlayers = new int[shown];
+        shownPlayers = new int[shown];
+        shownScores = new int[shown];
+        shownTeams = new int[teamCount];
+    }
+
+    // Texto de un número de casilla u opción de respuesta, compartido entre todas las vistas
+    public static String number(int value) {
+        int index = value - MIN_CACHED;
+        if (index < 0 || index >= NUMBERS.length) {
+            return String.valueOf(value);
+        }
+        String text = NUMBERS[index];
+        if (text == null) {
+            text = String.valueOf(value);
+            NUMBERS[index] = text;
+        }
+        return text;
+    }
+
+    public String selectFirst(int player) {
+        return playerText(SELECT_FIRST, player);
+    }
+
+    public String selectSecond(int player) {
+        return playerText(SELECT_SECOND, player);
+    }
+
+    public String result(int player, boolean correct) {
+        return playerText(correct ? CORRECT : INCORRECT, player);
+    }
+
+    // "Jugador N: Encuentra: a + b = ? (Ns)"; solo arma textos cuando cambia la operación
+    public String question(int player, int firstNumber, char operator, int secondNumber, int secondsLeft) {
+        if (player != countdownPlayer || firstNumber != countdownFirst || secondNumber != countdownSecond ||
+            operator != countdownOperator) {
+            countdownPlayer = player;
+            countdownFirst = firstNumber;
+            countdownSecond = secondNumber;
+            countdownOperator = operator;
+            for (int seconds = 0; seconds < countdown.length; seconds++) {
+                builder.setLength(0);
+                builder.append("Jugador ").append(player + 1).append(": Encuentra: ").append(firstNumber)
+                    .append(' ').append(operator).append(' ').append(secondNumber)
+                    .append(" = ? (").append(seconds).append("s)");
+                countdown[seconds] = builder.toString();
+            }
+        }
+        return countdown[Math.max(0, Math.min(secondsLeft, countdown.length - 1))];
+    }
+
+    // "Puntuaciones: Jugador 1: x | ..." con todos los jugadores, o los LEADERBOARD_SIZE mejores en
+    // partidas grandes, seguido de los equipos. Devuelve el mismo String mientras nada cambie.
+    public String scores(Scoreboard board) {
+        int count = collectScores(board);
+        boolean changed = scoresText == null;
+        for (int i = 0; i < count && !changed; i++) {
+            changed = shownPlayers[i] != nextPlayers[i] || shownScores[i] != board.getScore(nextPlayers[i]);
+        }
+        for (int team = 0; team < shownTeams.length && !changed; team++) {
+            changed = shownTeams[team] != board.getTeamScore(team);
+        }
+        if (changed) {
+            for (int i = 0; i < count; i++) {
+                shownPlayers[i] = nextPlayers[i];
+                shownScores[i] = board.getScore(nextPlayers[i]);
+            }
+            for (int team = 0; team < shownTeams.length; team++) {
+                shownTeams[team] = board.getTeamScore(team);
+            }
+            scoresText = appendScores(count > 0 && count < board.getPlayerCount() ? "Mejores: " : "Puntuaciones: ",
+                board, count);
+        }
+        return scoresText;
+    }
+
+    // Texto de fin de partida (se arma una vez por partida)
+    public String gameOver(Scoreboard board) {
+        return appendScores("¡Juego terminado! Puntuaciones finales: ", board, collectScores(board));
+    }
+
+    // Jugadores a mostrar en nextPlayers: todos en orden si son pocos, si no los mejores
+    private int collectScores(Scoreboard board) {
+        if (board.getPlayerCount() <= LEADERBOARD_SIZE) {
+            for (int player = 0; player < board.getPlayerCount(); player++) {
+                nextPlayers[player] = player;
+            }
+            return board.getPlayerCount();
+        }
+        return board.topPlayers(nextPlayers);
+    }
+
+    private String appendScores(String prefix, Scoreboard board, int count) {
+        builder.setLength(0);
+        builder.append(prefix);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(" | ");
+            }
+            builder.append("Jugador ").append(nextPlayers[i] + 1).append(": ").append(board.getScore(nextPlayers[i]));
+        }
+        for (int team = 0; team < board.getTeamCount(); team++) {
+            builder.append(" | Equipo ").append(team + 1).append(": ").append(board.getTeamScore(team));
+        }
+        return builder.toString();
+    }
+
+    private String playerText(int template, int player) {
+        String text = playerTexts[template][player];
+        if (text == null) {
+            builder.setLength(0);
+            text = builder.append("Jugador ").append(player + 1).append(TEMPLATES[template]).toString();
+            playerTexts[template][player] = text;
+        }
+        return text;
+    }
+}
\ No newline at end of file
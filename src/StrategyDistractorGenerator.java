@@ -0,0 +1,83 @@
+import java.util.random.RandomGenerator;
+
+// Generador de distractores basado en estrategias intercambiables.
+// Los candidatos se construyen directamente dentro del rango válido de resultados, por lo que
+// cada llamada hace como máximo (estrategias + 2 * MAX_FILL_OFFSET) intentos: tiempo O(1).
+public class StrategyDistractorGenerator implements DistractorGenerator {
+    // Distancia máxima al resultado correcto usada para completar opciones faltantes
+    private static final int MAX_FILL_OFFSET = 6;
+    private final DistractorStrategy[] strategies; // Estrategias en el orden de preferencia
+    private final int[] minResult = new int[Operator.COUNT]; // Resultado mínimo alcanzable por operador
+    private final int[] maxResult = new int[Operator.COUNT]; // Resultado máximo alcanzable por operador
+
+    public StrategyDistractorGenerator(int minNumber, int maxNumber, DistractorStrategy... strategies) {
+        if (minNumber > maxNumber) {
+            throw new IllegalArgumentException("Rango de operandos inválido: " + minNumber + ".." + maxNumber);
+        }
+        this.strategies = strategies.clone();
+        for (Operator operator : Operator.values()) {
+            minResult[operator.ordinal()] = operator.minResult(minNumber, maxNumber);
+            maxResult[operator.ordinal()] = operator.maxResult(minNumber, maxNumber);
+        }
+    }
+
+    // Generador con las estrategias estándar: error por uno, dígitos invertidos, operador y acarreo
+    public static StrategyDistractorGenerator standard(int minNumber, int maxNumber) {
+        return new StrategyDistractorGenerator(minNumber, maxNumber,
+            DistractorStrategy.OFF_BY_ONE, DistractorStrategy.DIGIT_SWAP,
+            DistractorStrategy.WRONG_OPERATOR, DistractorStrategy.CARRY_ERROR);
+    }
+
+    @Override
+    public void fillOptions(int firstNumber, int secondNumber, char operator, int correctResult,
+                            int[] options, RandomGenerator random) {
+        int range = Operator.fromSymbol(operator).ordinal();
+        options[0] = correctResult;
+        int count = 1;
+        // Cada estrategia se consulta una sola vez, empezando por una al azar
+        int start = strategies.length == 0 ? 0 : random.nextInt(strategies.length);
+        for (int i = 0; i < strategies.length && count < OPTION_COUNT; i++) {
+            DistractorStrategy strategy = strategies[(start + i) % strategies.length];
+            int candidate = strategy.candidate(firstNumber, secondNumber, operator, correctResult, random);
+            if (accepts(candidate, options, count, range)) {
+                options[count++] = candidate;
+            }
+        }
+        // Completa con valores cercanos al resultado correcto; con 6 pasos a cada lado siempre
+        // quedan suficientes valores libres dentro del rango, incluso en sus extremos
+        for (int offset = 1; offset <= MAX_FILL_OFFSET && count < OPTION_COUNT; offset++) {
+            int sign = random.nextBoolean() ? 1 : -1;
+            int candidate = correctResult + sign * offset;
+            if (accepts(candidate, options, count, range)) {
+                options[count++] = candidate;
+            }
+            candidate = correctResult - sign * offset;
+            if (count < OPTION_COUNT && accepts(candidate, options, count, range)) {
+                options[count++] = candidate;
+            }
+        }
+        if (count < OPTION_COUNT) {
+            throw new IllegalStateException("Rango de resultados demasiado pequeño para " + OPTION_COUNT + " opciones");
+        }
+        // Mezcla Fisher-Yates sobre el arreglo primitivo
+        for (int i = OPTION_COUNT - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = options[i];
+            options[i] = options[j];
+            options[j] = tmp;
+        }
+    }
+
+    // Acepta un candidato si está en el rango del operador y no repite ninguna opción ya elegida
+    private boolean accepts(int candidate, int[] options, int count, int range) {
+        if (candidate < minResult[range] || candidate > maxResult[range]) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (options[i] == candidate) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
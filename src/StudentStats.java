@@ -0,0 +1,70 @@
+// Acumulado de un estudiante en el ScoreLog: puntos, aciertos, intentos y latencia total
+public final class StudentStats {
+    private final int studentId; // Estudiante
+    private long score; // Puntos acumulados
+    private long correct; // Respuestas correctas
+    private long attempts; // Respuestas totales (incluye tiempos agotados)
+    private long totalLatencyNanos; // Suma de latencias de respuesta
+
+    StudentStats(int studentId) {
+        this.studentId = studentId;
+    }
+
+    StudentStats(int studentId, long score, long correct, long attempts, long totalLatencyNanos) {
+        this.studentId = studentId;
+        this.score = score;
+        this.correct = correct;
+        this.attempts = attempts;
+        this.totalLatencyNanos = totalLatencyNanos;
+    }
+
+    // Aplica una respuesta al acumulado
+    void add(boolean isCorrect, long latencyNanos) {
+        attempts++;
+        totalLatencyNanos += latencyNanos;
+        if (isCorrect) {
+            correct++;
+            score += GameEngine.POINTS_PER_CORRECT;
+        }
+    }
+
+    StudentStats copy() {
+        return new StudentStats(studentId, score, correct, attempts, totalLatencyNanos);
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public long getCorrect() {
+        return correct;
+    }
+
+    public long getAttempts() {
+        return attempts;
+    }
+
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos;
+    }
+
+    // Latencia media por respuesta en nanosegundos
+    public double getAverageLatencyNanos() {
+        return attempts == 0 ? 0.0 : (double) totalLatencyNanos / attempts;
+    }
+
+    // Orden de la tabla: más puntos primero, luego más aciertos y luego menor identificador
+    int compareRank(StudentStats other) {
+        if (score != other.score) {
+            return Long.compare(other.score, score);
+        }
+        if (correct != other.correct) {
+            return Long.compare(other.correct, correct);
+        }
+        return Integer.compare(studentId, other.studentId);
+    }
+}
\ No newline at end of file
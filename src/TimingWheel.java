@@ -0,0 +1,128 @@
+import java.util.ArrayList;
+
+// Rueda de tiempo con hash (hashed timing wheel) compartida por todos los temporizadores.
+// Cada ranura es una lista doblemente enlazada intrusiva, así que programar y cancelar son O(1)
+// y no asignan memoria. Las tareas con plazos más largos que una vuelta guardan cuántas vueltas
+// les faltan. El tiempo no avanza solo: un único pulso llama a advanceTo con la hora actual.
+public final class TimingWheel {
+    private final long tickNanos; // Duración de cada tick
+    private final Task[] slots; // Cabeza de la lista de cada ranura
+    private final int mask; // Máscara para calcular la ranura (tamaño potencia de dos)
+    private final long startNanos; // Instante correspondiente al tick 0
+    private final ArrayList<Task> expired = new ArrayList<>(); // Tareas vencidas del último avance
+    private long currentTick = 0; // Último tick procesado
+    private int pending = 0; // Tareas programadas
+
+    // Tarea programable: el nodo de la lista vive en la propia tarea para evitar asignaciones
+    public abstract static class Task implements Runnable {
+        private Task prev; // Anterior en la ranura
+        private Task next; // Siguiente en la ranura
+        private int slot = -1; // Ranura actual (-1 si no está programada)
+        private long rounds; // Vueltas completas que faltan para vencer
+
+        // Indica si la tarea está programada y aún no venció
+        public final boolean isPending() {
+            return slot >= 0;
+        }
+    }
+
+    public TimingWheel(long tickNanos, int wheelSize, long startNanos) {
+        if (tickNanos <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Tick o tamaño de rueda inválido: " + tickNanos + ", " + wheelSize);
+        }
+        this.tickNanos = tickNanos;
+        this.slots = new Task[wheelSize];
+        this.mask = wheelSize - 1;
+        this.startNanos = startNanos;
+    }
+
+    // Programa la tarea para dentro de delayNanos (al menos un tick). Si ya estaba programada
+    // se reprograma.
+    public synchronized void schedule(Task task, long delayNanos) {
+        if (task.isPending()) {
+            unlink(task);
+        }
+        long ticks = Math.max(1, (delayNanos + tickNanos - 1) / tickNanos);
+        long deadline = currentTick + ticks;
+        int slot = (int) (deadline & mask);
+        task.rounds = (ticks - 1) / slots.length;
+        task.slot = slot;
+        task.prev = null;
+        task.next = slots[slot];
+        if (task.next != null) {
+            task.next.prev = task;
+        }
+        slots[slot] = task;
+        pending++;
+    }
+
+    // Cancela la tarea; devuelve false si no estaba programada
+    public synchronized boolean cancel(Task task) {
+        if (!task.isPending()) {
+            return false;
+        }
+        unlink(task);
+        return true;
+    }
+
+    // Avanza la rueda hasta nowNanos, tick por tick. Las tareas vencidas se ejecutan fuera del
+    // candado, para que puedan reprogramarse (relativo al tick en que vencieron) o tomar otros
+    // candados. Devuelve cuántas tareas se ejecutaron.
+    // Solo debe llamarla un hilo: el del pulso que impulsa la rueda.
+    public int advanceTo(long nowNanos) {
+        long targetTick = (nowNanos - startNanos) / tickNanos;
+        int fired = 0;
+        while (true) {
+            synchronized (this) {
+                if (currentTick >= targetTick) {
+                    return fired;
+                }
+                currentTick++;
+                collectExpired((int) (currentTick & mask));
+            }
+            for (int i = 0; i < expired.size(); i++) {
+                expired.get(i).run();
+            }
+            fired += expired.size();
+            expired.clear();
+        }
+    }
+
+    // Mueve a la lista de vencidas las tareas de la ranura cuya vuelta llegó a cero
+    private void collectExpired(int slot) {
+        Task task = slots[slot];
+        while (task != null) {
+            Task next = task.next;
+            if (task.rounds == 0) {
+                unlink(task);
+                expired.add(task);
+            } else {
+                task.rounds--;
+            }
+            task = next;
+        }
+    }
+
+    private void unlink(Task task) {
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            slots[task.slot] = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+        task.slot = -1;
+        pending--;
+    }
+
+    public synchronized int pendingCount() {
+        return pending;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+}
\ No newline at end of file
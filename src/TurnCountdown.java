@@ -0,0 +1,42 @@
+import java.util.concurrent.TimeUnit;
+
+// Cuenta regresiva de un turno sobre la rueda de tiempo compartida. Se crea una por turno y se
+// reprograma cada segundo mientras el objetivo siga esperando respuesta; un tick que llegue tarde
+// para un turno ya resuelto se ignora porque el número de turno no coincide.
+public final class TurnCountdown extends TimingWheel.Task {
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // Destino de los ticks de la cuenta regresiva
+    @FunctionalInterface
+    public interface Target {
+        // Consume un segundo del turno indicado; devuelve true si la cuenta debe continuar
+        boolean tickSecond(int turn);
+    }
+
+    private final TimingWheel wheel; // Rueda compartida
+    private final Target target; // Partida que recibe los ticks
+    private final int turn; // Turno al que pertenece esta cuenta
+
+    public TurnCountdown(TimingWheel wheel, Target target, int turn) {
+        this.wheel = wheel;
+        this.target = target;
+        this.turn = turn;
+    }
+
+    // Programa el primer tick dentro de un segundo
+    public void start() {
+        wheel.schedule(this, ONE_SECOND);
+    }
+
+    // Detiene la cuenta regresiva si sigue programada
+    public void cancel() {
+        wheel.cancel(this);
+    }
+
+    @Override
+    public void run() {
+        if (target.tickSecond(turn)) {
+            wheel.schedule(this, ONE_SECOND);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+import java.util.Arrays;
+
+// Orden de turnos para partidas de cualquier cantidad de jugadores. Los jugadores juegan en
+// rotación; quién ya intentó en la ronda se guarda en un conjunto de bits con un contador, así que
+// saber si todos jugaron es O(1) en lugar de recorrer a todos los jugadores después de cada turno.
+public final class TurnScheduler {
+    private final int playerCount; // Jugadores en la rotación
+    private final int rounds; // Rondas de la partida (cada jugador intenta una vez por ronda)
+    private final long[] attempted; // Jugadores que ya intentaron en la ronda actual
+    private int attemptedCount; // Cantidad de bits encendidos en attempted
+    private int round; // Ronda actual (desde 0)
+    private int current; // Jugador con el turno
+
+    public TurnScheduler(int playerCount, int rounds) {
+        if (playerCount < 1) {
+            throw new IllegalArgumentException("Cantidad de jugadores inválida: " + playerCount);
+        }
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Cantidad de rondas inválida: " + rounds);
+        }
+        this.playerCount = playerCount;
+        this.rounds = rounds;
+        this.attempted = new long[(playerCount + 63) >>> 6];
+    }
+
+    // Vuelve a la primera ronda con el turno del jugador 0
+    public void reset() {
+        clearAttempts();
+        round = 0;
+        current = 0;
+    }
+
+    // Marca que el jugador con el turno ya intentó en esta ronda
+    public void markAttempted() {
+        long bit = 1L << current;
+        int word = current >>> 6;
+        if ((attempted[word] & bit) == 0) {
+            attempted[word] |= bit;
+            attemptedCount++;
+        }
+    }
+
+    // Pasa el turno al siguiente jugador. Cuando todos intentaron empieza la ronda siguiente;
+    // devuelve false si ya no quedan rondas (fin de la partida).
+    public boolean advance() {
+        current = current + 1 == playerCount ? 0 : current + 1;
+        if (attemptedCount < playerCount) {
+            return true;
+        }
+        if (round + 1 < rounds) {
+            round++;
+            clearAttempts();
+            return true;
+        }
+        return false;
+    }
+
+    private void clearAttempts() {
+        Arrays.fill(attempted, 0L);
+        attemptedCount = 0;
+    }
+
+    public boolean hasAttempted(int player) {
+        return (attempted[player >>> 6] & (1L << player)) != 0;
+    }
+
+    // Jugadores que ya intentaron en la ronda actual
+    public int getAttemptedCount() {
+        return attemptedCount;
+    }
+
+    public int getCurrent() {
+        return current;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+}
\ No newline at end of file
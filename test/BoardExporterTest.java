@@ -0,0 +1,136 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class BoardExporterTest {
+
+    @Test
+    @DisplayName("Verificar que la exportación es idéntica con cualquier cantidad de hilos")
+    void testDeterministicAcrossThreads() throws Exception {
+        BoardExporter exporter = new BoardExporter(GameEngine.GRID_SIZE, 21L, GameEngine.UNIFORM_LEVEL,
+            Operator.values(), BoardExporter.Format.BINARY);
+        // Más de un bloque y un último bloque incompleto
+        long boards = 3L * exporter.chunkBoards(0) + 17;
+        assertArrayEquals(export(exporter, boards, 1), export(exporter, boards, 4));
+    }
+
+    @Test
+    @DisplayName("Verificar el formato binario: cabecera, casillas y clave de respuestas")
+    void testBinaryFormat() throws Exception {
+        int gridSize = 5; // Tablero impar: la última casilla se combina con la primera
+        int level = 2;
+        BoardExporter exporter = new BoardExporter(gridSize, 9L, level,
+            new Operator[] {Operator.ADD, Operator.MULTIPLY}, BoardExporter.Format.BINARY);
+        int boards = 40;
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(export(exporter, boards, 2)));
+        byte[] magic = new byte[BoardExporter.MAGIC.length];
+        in.readFully(magic);
+        assertArrayEquals(BoardExporter.MAGIC, magic);
+        assertEquals(BoardExporter.VERSION, in.readUnsignedByte());
+        assertEquals(gridSize, in.readInt());
+        assertEquals(boards, in.readLong());
+        assertEquals(9L, in.readLong());
+        assertEquals(level + 1, in.readUnsignedByte());
+        assertEquals(Operator.mask(Operator.ADD, Operator.MULTIPLY), in.readUnsignedByte());
+        byte[] cells = new byte[gridSize * gridSize];
+        for (int board = 0; board < boards; board++) {
+            in.readFully(cells);
+            for (int problem = 0; problem < BoardExporter.problemCount(gridSize); problem++) {
+                int first = cells[2 * problem];
+                int second = cells[(2 * problem + 1) % cells.length];
+                int key = in.readUnsignedByte();
+                Operator operator = Operator.ofOrdinal(key >>> 2);
+                assertTrue(operator == Operator.ADD || operator == Operator.MULTIPLY);
+                int[] options = new int[DistractorGenerator.OPTION_COUNT];
+                for (int i = 0; i < options.length; i++) {
+                    options[i] = in.readShort();
+                }
+                assertEquals(operator.apply(first, second), options[key & 3], "Clave incorrecta en el tablero " + board);
+            }
+            // Los pares completos del tablero son del nivel pedido
+            for (int cell = 0; cell + 1 < cells.length; cell += 2) {
+                assertEquals(level, DifficultyTable.pairLevel(cells[cell], cells[cell + 1]));
+            }
+        }
+        assertEquals(-1, in.read(), "Sobran bytes al final del archivo");
+    }
+
+    @Test
+    @DisplayName("Verificar el formato CSV: una línea por problema con la respuesta entre las opciones")
+    void testCsvFormat() throws Exception {
+        BoardExporter exporter = new BoardExporter(GameEngine.GRID_SIZE, 3L, GameEngine.UNIFORM_LEVEL,
+            new Operator[] {Operator.SUBTRACT, Operator.DIVIDE}, BoardExporter.Format.CSV);
+        String[] lines = new String(export(exporter, 10, 3), StandardCharsets.US_ASCII).split("\n");
+        assertEquals(BoardExporter.CSV_HEADER.trim(), lines[0]);
+        assertEquals(1 + 10 * BoardExporter.problemCount(GameEngine.GRID_SIZE), lines.length);
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split(",");
+            assertEquals(11, fields.length);
+            int first = Integer.parseInt(fields[3]);
+            int second = Integer.parseInt(fields[5]);
+            int result = Operator.fromSymbol(fields[4].charAt(0)).apply(first, second);
+            assertEquals(result, Integer.parseInt(fields[6]));
+            int found = 0;
+            for (int option = 7; option < fields.length; option++) {
+                if (Integer.parseInt(fields[option]) == result) {
+                    found++;
+                }
+            }
+            assertEquals(1, found, "La respuesta debe aparecer una vez entre las opciones: " + lines[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que los bloques se ajustan al tamaño del tablero")
+    void testChunksFollowBoardSize() throws Exception {
+        BoardExporter small = new BoardExporter(GameEngine.GRID_SIZE, 1L, GameEngine.UNIFORM_LEVEL,
+            Operator.values(), BoardExporter.Format.BINARY);
+        assertTrue(small.chunkBoards(1_000) * small.bytesPerBoard(1_000) <= BoardExporter.CHUNK_BYTES);
+        assertTrue(small.chunkBoards(1_000) > 1);
+        // Un tablero de 1000 x 1000 en CSV supera el presupuesto: un tablero por bloque
+        BoardExporter huge = new BoardExporter(GameEngine.MAX_GRID_SIZE, 1L, GameEngine.UNIFORM_LEVEL,
+            Operator.values(), BoardExporter.Format.CSV);
+        assertEquals(1, huge.chunkBoards(2));
+        assertTrue(huge.bytesPerBoard(2) < Integer.MAX_VALUE);
+        String[] lines = new String(export(huge, 2, 2), StandardCharsets.US_ASCII).split("\n");
+        assertEquals(1 + 2 * BoardExporter.problemCount(GameEngine.MAX_GRID_SIZE), lines.length);
+    }
+
+    @Test
+    @DisplayName("Verificar que la cota de bytes del CSV no se queda corta con números de tablero y casilla largos")
+    void testCsvBoundCoversLongLines() {
+        BoardExporter exporter = new BoardExporter(100, 8L, GameEngine.UNIFORM_LEVEL,
+            Operator.values(), BoardExporter.Format.CSV);
+        long boards = 10_000_000L; // Números de tablero de 7 dígitos y casillas de 4
+        int count = exporter.chunkBoards(boards);
+        long first = boards - count;
+        byte[] chunk = exporter.encodeChunk(first, count);
+        assertTrue(chunk.length <= count * exporter.bytesPerBoard(boards),
+            chunk.length + " bytes superan la cota de " + count * exporter.bytesPerBoard(boards));
+        assertTrue(chunk.length <= BoardExporter.CHUNK_BYTES);
+    }
+
+    @Test
+    @DisplayName("Verificar que se rechazan argumentos inválidos")
+    void testRejectsInvalidArguments() {
+        BoardExporter exporter = new BoardExporter(GameEngine.GRID_SIZE, 1L, GameEngine.UNIFORM_LEVEL,
+            Operator.values(), BoardExporter.Format.BINARY);
+        assertThrows(IllegalArgumentException.class, () -> export(exporter, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> export(exporter, 10, 0));
+        assertEquals(BoardExporter.Format.CSV, BoardExporter.parseFormat("CSV"));
+        assertEquals(BoardExporter.Format.BINARY, BoardExporter.parseFormat("binary"));
+        assertThrows(IllegalArgumentException.class, () -> BoardExporter.parseFormat("json"));
+    }
+
+    private static byte[] export(BoardExporter exporter, long boards, int threads)
+            throws IOException, InterruptedException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(boards, out, threads);
+        return out.toByteArray();
+    }
+}
\ No newline at end of file
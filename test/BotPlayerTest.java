@@ -0,0 +1,112 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class BotPlayerTest {
+
+    private static BotView view(int gridSize, int... remembered) {
+        byte[] memory = new byte[gridSize * gridSize];
+        for (int i = 0; i < remembered.length; i += 2) {
+            memory[remembered[i]] = (byte) remembered[i + 1];
+        }
+        int[] free = new int[memory.length];
+        for (int cell = 0; cell < free.length; cell++) {
+            free[cell] = cell;
+        }
+        return new BotView(gridSize, memory, free, free.length);
+    }
+
+    @Test
+    @DisplayName("Verificar que el bot de muestreo elige el par recordado más fácil y en el mejor orden")
+    void testSamplingPicksEasyPair() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SamplingBot bot = new SamplingBot(BotSkill.STANDARD, pool, TimeUnit.MILLISECONDS.toNanos(20), 1L);
+            // 59 y 96 son difíciles con cualquier operador; 11 - 32 da negativo pero 32 - 11 y 32 + 11 no
+            int[] cells = bot.chooseCells(view(4, 0, 59, 1, 96, 5, 11, 9, 32));
+            assertArrayEquals(new int[] {9, 5}, cells);
+            assertTrue(bot.getLastSamples() > 0);
+            assertTrue(bot.getSamplesPerSecondPerCore() > 0.0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que sin números recordados el bot elige dos casillas libres distintas")
+    void testSamplingWithoutMemory() {
+        SamplingBot bot = new SamplingBot(BotSkill.STANDARD, ForkJoinPool.commonPool(), 0L, 2L);
+        int[] cells = bot.chooseCells(view(GameEngine.GRID_SIZE));
+        assertNotEquals(cells[0], cells[1]);
+        RandomBot random = new RandomBot(BotSkill.uniform(1.0), 3L);
+        for (int i = 0; i < 100; i++) {
+            int[] pair = random.chooseCells(view(2));
+            assertNotEquals(pair[0], pair[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que un bot perfecto siempre responde bien y uno nulo siempre mal")
+    void testSkillAnswers() {
+        RandomBot perfect = new RandomBot(BotSkill.uniform(1.0), 4L);
+        RandomBot hopeless = new RandomBot(BotSkill.uniform(0.0), 4L);
+        int[] options = {45, 46, 47, 48};
+        for (int i = 0; i < 50; i++) {
+            assertEquals(46, perfect.chooseAnswer(12, '+', 34, 46, options));
+            assertNotEquals(46, hopeless.chooseAnswer(12, '+', 34, 46, options));
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que los bots juegan su turno dentro de la rotación junto a un humano")
+    void testBotsTakeTurnsInRotation() {
+        GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, 10L);
+        BotPlayer[] seats = {
+            null,
+            new SamplingBot(BotSkill.STANDARD, ForkJoinPool.commonPool(), TimeUnit.MILLISECONDS.toNanos(2), 5L),
+            new RandomBot(BotSkill.uniform(1.0), 6L)
+        };
+        engine.setListener(new BotDriver(engine, seats, Runnable::run, Runnable::run));
+        engine.newGame();
+        // Turno del humano: el motor espera su jugada
+        assertEquals(GameEngine.State.SELECT_FIRST, engine.getState());
+        engine.selectCell(0, 0);
+        engine.selectCell(0, 1);
+        engine.answer(engine.getCorrectResult());
+        // Al pasar el turno, cada bot selecciona y responde por su cuenta
+        engine.nextPlayer();
+        assertEquals(GameEngine.State.NEXT_PLAYER, engine.getState());
+        assertTrue(engine.hasAttempted(1));
+        engine.nextPlayer();
+        assertEquals(GameEngine.State.NEXT_PLAYER, engine.getState());
+        assertEquals(GameEngine.POINTS_PER_CORRECT, engine.getScore(2));
+        engine.nextPlayer();
+        assertEquals(GameEngine.State.GAME_OVER, engine.getState());
+        assertEquals(GameEngine.POINTS_PER_CORRECT, engine.getScore(0));
+    }
+
+    @Test
+    @DisplayName("Verificar que una jugada pensada antes de reiniciar la partida se descarta")
+    void testStaleMoveAfterRestartIsIgnored() {
+        GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, 11L);
+        BotPlayer[] seats = {
+            new RandomBot(BotSkill.uniform(1.0), 7L), null, null
+        };
+        // El hilo del juego queda en pausa: las jugadas se acumulan hasta ejecutarlas a mano
+        ArrayDeque<Runnable> gameThread = new ArrayDeque<>();
+        engine.setListener(new BotDriver(engine, seats, gameThread::add, Runnable::run));
+        engine.newGame();
+        engine.newGame(); // Reinicio mientras la primera jugada espera: mismo turno, jugador y estado
+        int cells = engine.getGridSize() * engine.getGridSize();
+        gameThread.poll().run();
+        assertEquals(GameEngine.State.SELECT_FIRST, engine.getState(), "La jugada de la partida anterior no se aplica");
+        assertEquals(cells, engine.getFreeCellCount());
+        gameThread.poll().run();
+        assertEquals(GameEngine.State.ANSWER, engine.getState(), "La jugada de la partida actual sí se aplica");
+        gameThread.poll().run();
+        assertEquals(GameEngine.POINTS_PER_CORRECT, engine.getScore(0));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+public class CellIndexTest {
+
+    @Test
+    @DisplayName("Verificar destapar, ocultar, bloquear y desbloquear casillas")
+    void testCellStates() {
+        CellIndex index = new CellIndex(100);
+        assertEquals(100, index.freeCount());
+        assertTrue(index.reveal(70));
+        assertFalse(index.reveal(70), "Una casilla destapada no se puede volver a destapar");
+        assertTrue(index.isRevealed(70));
+        assertEquals(99, index.freeCount());
+        index.lock(70);
+        index.hide(70);
+        assertFalse(index.isRevealed(70));
+        assertFalse(index.isFree(70), "Una casilla bloqueada no queda libre al ocultarse");
+        index.unlock(70);
+        assertTrue(index.isFree(70));
+        assertEquals(100, index.freeCount());
+        index.lock(5);
+        assertFalse(index.reveal(5), "Una casilla bloqueada no se puede destapar");
+        assertEquals(99, index.freeCount());
+    }
+
+    @Test
+    @DisplayName("Verificar que la casilla libre al azar nunca es una destapada o bloqueada")
+    void testRandomFreeCell() {
+        CellIndex index = new CellIndex(64);
+        SplittableRandom random = new SplittableRandom(3);
+        Set<Integer> taken = new HashSet<>();
+        for (int i = 0; i < 63; i++) {
+            int cell = index.randomFreeCell(random);
+            assertFalse(taken.contains(cell));
+            taken.add(cell);
+            if (i % 2 == 0) {
+                assertTrue(index.reveal(cell));
+            } else {
+                index.lock(cell);
+            }
+        }
+        assertEquals(1, index.freeCount());
+        int last = index.randomFreeCell(random);
+        assertFalse(taken.contains(last));
+        index.reveal(last);
+        assertEquals(-1, index.randomFreeCell(random), "Sin casillas libres se devuelve -1");
+    }
+
+    @Test
+    @DisplayName("Verificar que el motor mantiene el índice al destapar y ocultar casillas")
+    void testEngineFreeCells() {
+        GameEngine engine = new GameEngine();
+        engine.newGame();
+        assertEquals(64, engine.getFreeCellCount());
+        engine.selectCell(1, 1);
+        engine.selectCell(2, 2);
+        assertEquals(62, engine.getFreeCellCount());
+        engine.answer(engine.getCorrectResult());
+        engine.nextPlayer();
+        assertEquals(64, engine.getFreeCellCount(), "Las casillas ocultas vuelven a estar libres");
+        int cell = engine.randomFreeCell(new SplittableRandom(1));
+        assertTrue(engine.selectCell(cell / GameEngine.GRID_SIZE, cell % GameEngine.GRID_SIZE));
+    }
+}
\ No newline at end of file
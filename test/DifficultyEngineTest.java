@@ -0,0 +1,97 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.SplittableRandom;
+
+public class DifficultyEngineTest {
+
+    @Test
+    @DisplayName("Verificar los factores de dificultad: llevar, pedir prestado y resultados negativos")
+    void testDifficultyFactors() {
+        assertEquals(0, DifficultyTable.level(21, 13, '+'));
+        assertEquals(2, DifficultyTable.level(27, 15, '+')); // Lleva en las unidades
+        assertEquals(4, DifficultyTable.level(59, 96, '+')); // Lleva, unidades 15 y pasa de 100
+        assertEquals(0, DifficultyTable.level(35, 12, '-'));
+        assertEquals(2, DifficultyTable.level(32, 15, '-')); // Pide prestado
+        assertEquals(2, DifficultyTable.level(12, 35, '-')); // Negativo
+        assertEquals(4, DifficultyTable.level(59, 96, '-')); // Negativo y pide prestado
+        assertEquals(4, DifficultyTable.pairLevel(59, 96));
+    }
+
+    @Test
+    @DisplayName("Verificar que todos los pares de operandos tienen un nivel y todos los niveles tienen pares")
+    void testEveryLevelHasPairs() {
+        int range = GameEngine.MAX_NUMBER - GameEngine.MIN_NUMBER + 1;
+        int total = 0;
+        for (int level = 0; level < DifficultyTable.LEVELS; level++) {
+            assertTrue(DifficultyTable.pairCount(level) > 0, "nivel " + level);
+            total += DifficultyTable.pairCount(level);
+        }
+        assertEquals(range * range, total);
+    }
+
+    @Test
+    @DisplayName("Verificar que el tablero generado usa pares del nivel pedido")
+    void testBoardMatchesLevel() {
+        SplittableRandom random = new SplittableRandom(5L);
+        byte[] cells = new byte[33 * 33];
+        for (int level = 0; level < DifficultyTable.LEVELS; level++) {
+            DifficultyTable.fillBoard(cells, level, random);
+            for (int cell = 0; cell + 1 < cells.length; cell += 2) {
+                assertEquals(level, DifficultyTable.pairLevel(cells[cell], cells[cell + 1]));
+            }
+            int last = cells[cells.length - 1];
+            assertTrue(last >= GameEngine.MIN_NUMBER && last <= GameEngine.MAX_NUMBER);
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que el nivel sube con aciertos rápidos y baja con errores y tiempos agotados")
+    void testLevelAdaptsToSkill() {
+        long[] now = {0L};
+        DifficultyEngine difficulty = new DifficultyEngine(() -> now[0]);
+        int initial = difficulty.boardLevel();
+        for (int i = 0; i < 20; i++) {
+            for (int player = 0; player < GameEngine.PLAYER_COUNT; player++) {
+                difficulty.operationReady(10, '+', 10, new int[0]);
+                now[0] += 1_000_000_000L;
+                difficulty.answerResolved(player, 20, true);
+            }
+        }
+        assertTrue(difficulty.getAccuracy(0) > 0.99);
+        assertEquals(DifficultyTable.LEVELS - 1, difficulty.boardLevel());
+        for (int i = 0; i < 20; i++) {
+            difficulty.operationReady(10, '+', 10, new int[0]);
+            difficulty.answerResolved(1, GameEngine.TIMEOUT_ANSWER, false);
+        }
+        assertEquals(0, difficulty.targetLevel(1));
+        assertTrue(difficulty.targetLevel(0) > initial);
+    }
+
+    @Test
+    @DisplayName("Verificar que una partida adaptativa genera su tablero del nivel recomendado y se reproduce")
+    void testAdaptiveGameReplays() {
+        long[] now = {0L};
+        GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, 77L);
+        DifficultyEngine difficulty = new DifficultyEngine(() -> now[0]);
+        engine.setDifficultyEngine(difficulty);
+        MoveLog log = engine.startRecording();
+        for (int game = 0; game < 6; game++) {
+            engine.newGame();
+            assertEquals(difficulty.boardLevel(), engine.getBoardLevel());
+            for (int player = 0; player < GameEngine.PLAYER_COUNT; player++) {
+                engine.selectCell(player, 0);
+                engine.selectCell(player, 1);
+                now[0] += 500_000_000L;
+                engine.answer(engine.getCorrectResult());
+                engine.nextPlayer();
+            }
+        }
+        assertTrue(engine.getBoardLevel() > 0);
+        GameEngine replayed = GameReplay.replay(log.toByteArray());
+        assertEquals(engine.getBoardLevel(), replayed.getBoardLevel());
+        for (int col = 0; col < GameEngine.GRID_SIZE; col++) {
+            assertEquals(engine.getNumber(7, col), replayed.getNumber(7, col));
+        }
+    }
+}
\ No newline at end of file
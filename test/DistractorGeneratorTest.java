@@ -0,0 +1,75 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.SplittableRandom;
+
+public class DistractorGeneratorTest {
+
+    private final DistractorGenerator generator = StrategyDistractorGenerator.standard(10, 99);
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    @DisplayName("Verificar opciones válidas en todo el espacio de operandos 10-99")
+    void testFullOperandSpace() {
+        int[] options = new int[DistractorGenerator.OPTION_COUNT];
+        for (int first = 10; first <= 99; first++) {
+            for (int second = 10; second <= 99; second++) {
+                checkOptions(first, second, '+', first + second, options);
+                checkOptions(first, second, '-', first - second, options);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que los extremos (99 + 99 y 10 - 99) no bloquean el generador")
+    void testExtremeResults() {
+        int[] options = new int[DistractorGenerator.OPTION_COUNT];
+        for (int i = 0; i < 1000; i++) {
+            checkOptions(99, 99, '+', 198, options);
+            checkOptions(10, 99, '-', -89, options);
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar las estrategias de error típicas")
+    void testStrategies() {
+        assertEquals(24, DistractorStrategy.DIGIT_SWAP.candidate(20, 22, '+', 42, random));
+        assertEquals(189, DistractorStrategy.DIGIT_SWAP.candidate(99, 99, '+', 198, random));
+        assertEquals(8, DistractorStrategy.WRONG_OPERATOR.candidate(25, 17, '+', 42, random));
+        assertEquals(42, DistractorStrategy.WRONG_OPERATOR.candidate(25, 17, '-', 8, random));
+        // 25 + 17 lleva acarreo: olvidarlo da 32
+        assertEquals(32, DistractorStrategy.CARRY_ERROR.candidate(25, 17, '+', 42, random));
+        // 25 - 17 requiere préstamo: olvidarlo da 18
+        assertEquals(18, DistractorStrategy.CARRY_ERROR.candidate(25, 17, '-', 8, random));
+        int offByOne = DistractorStrategy.OFF_BY_ONE.candidate(25, 17, '+', 42, random);
+        assertTrue(offByOne == 41 || offByOne == 43, "Error por uno inesperado: " + offByOne);
+    }
+
+    @Test
+    @DisplayName("Verificar que un generador sin estrategias completa con valores cercanos")
+    void testFallbackWithoutStrategies() {
+        DistractorGenerator fallback = new StrategyDistractorGenerator(10, 99);
+        int[] options = new int[DistractorGenerator.OPTION_COUNT];
+        fallback.fillOptions(99, 99, '+', 198, options, random);
+        for (int option : options) {
+            assertTrue(option >= 192 && option <= 198, "Opción fuera de la vecindad: " + option);
+        }
+    }
+
+    // Verifica que haya cuatro opciones distintas, que una sea la correcta y que todas estén en rango
+    private void checkOptions(int first, int second, char operator, int correct, int[] options) {
+        generator.fillOptions(first, second, operator, correct, options, random);
+        int found = 0;
+        for (int i = 0; i < options.length; i++) {
+            assertTrue(options[i] >= -89 && options[i] <= 198,
+                "Opción " + options[i] + " fuera de rango para " + first + " " + operator + " " + second);
+            if (options[i] == correct) {
+                found++;
+            }
+            for (int j = i + 1; j < options.length; j++) {
+                assertNotEquals(options[i], options[j], "Opciones repetidas para " + first + " " + operator + " " + second);
+            }
+        }
+        assertEquals(1, found, "La respuesta correcta debe aparecer exactamente una vez");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameEngineTest {
+
+    private GameEngine engine;
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine();
+        // Registramos los eventos que recibiría la vista
+        engine.setListener(new GameListener() {
+            @Override
+            public void turnStarted(int player) {
+                events.add("turno " + player);
+            }
+
+            @Override
+            public void cellRevealed(int row, int col, int value) {
+                events.add("destapa " + row + "," + col);
+            }
+
+            @Override
+            public void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+                events.add("operacion");
+            }
+
+            @Override
+            public void answerResolved(int player, int selectedAnswer, boolean correct) {
+                events.add("respuesta " + player + " " + correct);
+            }
+
+            @Override
+            public void cellHidden(int row, int col) {
+                events.add("oculta " + row + "," + col);
+            }
+
+            @Override
+            public void gameOver(int[] scores) {
+                events.add("fin");
+            }
+        });
+        engine.newGame();
+    }
+
+    @Test
+    @DisplayName("Verificar el recorrido completo de un turno por la máquina de estados")
+    void testTurnStateMachine() {
+        assertEquals(GameEngine.State.SELECT_FIRST, engine.getState());
+        assertTrue(engine.selectCell(2, 3));
+        assertEquals(GameEngine.State.SELECT_SECOND, engine.getState());
+        assertTrue(engine.selectCell(4, 5));
+        assertEquals(GameEngine.State.ANSWER, engine.getState());
+        assertTrue(engine.answer(engine.getCorrectResult()));
+        assertEquals(GameEngine.State.NEXT_PLAYER, engine.getState());
+        assertEquals(10, engine.getScore(0));
+        engine.nextPlayer();
+        assertEquals(GameEngine.State.SELECT_FIRST, engine.getState());
+        assertEquals(1, engine.getCurrentPlayer());
+        assertFalse(engine.isRevealed(2, 3), "Las casillas se ocultan al cambiar de turno");
+        assertEquals(List.of("turno 0", "destapa 2,3", "destapa 4,5", "operacion", "respuesta 0 true",
+            "oculta 2,3", "oculta 4,5", "turno 1"), events);
+    }
+
+    @Test
+    @DisplayName("Verificar que se rechazan movimientos fuera de turno")
+    void testInvalidMoves() {
+        assertFalse(engine.answer(0), "No se puede responder antes de elegir casillas");
+        assertTrue(engine.selectCell(0, 0));
+        assertFalse(engine.selectCell(0, 0), "No se puede elegir dos veces la misma casilla");
+        assertTrue(engine.selectCell(0, 1));
+        assertFalse(engine.selectCell(0, 2), "No se pueden elegir más de dos casillas");
+        assertTrue(engine.timeout());
+        assertFalse(engine.answer(engine.getCorrectResult()), "No se puede responder dos veces");
+        assertEquals(0, engine.getScore(0), "Agotar el tiempo no suma puntos");
+    }
+
+    @Test
+    @DisplayName("Verificar que una casilla fuera de la cuadrícula se rechaza en lugar de pasar a la fila siguiente")
+    void testOutOfRangeCells() {
+        int size = engine.getGridSize();
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.getNumber(0, size));
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.selectCell(0, size));
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.isRevealed(size, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.selectCell(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.getNumber(1, -1));
+        assertEquals(GameEngine.State.SELECT_FIRST, engine.getState(), "Un movimiento inválido no cambia el estado");
+        assertFalse(engine.isRevealed(1, 0), "La casilla (0, tamaño) no debe destapar la (1, 0)");
+    }
+
+    @Test
+    @DisplayName("Verificar cuadrículas de distintos tamaños hasta el máximo")
+    void testConfigurableGridSizes() {
+        for (int size : new int[] {2, 9, 64, GameEngine.MAX_GRID_SIZE}) {
+            GameEngine sized = new GameEngine(size, 5L);
+            sized.newGame();
+            assertEquals(size, sized.getGridSize());
+            assertEquals(size * size, sized.getFreeCellCount());
+            for (int row = 0; row < size; row += Math.max(1, size / 16)) {
+                for (int col = 0; col < size; col++) {
+                    int number = sized.getNumber(row, col);
+                    assertTrue(number >= GameEngine.MIN_NUMBER && number <= GameEngine.MAX_NUMBER,
+                        "Número fuera de rango en " + row + "," + col + ": " + number);
+                }
+            }
+            // Cada casilla es independiente: cambiar la última no toca a sus vecinas
+            sized.setNumber(size - 1, size - 1, 42);
+            sized.setNumber(size - 1, size - 2, 17);
+            assertEquals(42, sized.getNumber(size - 1, size - 1));
+            assertTrue(sized.selectCell(size - 1, size - 1));
+            assertTrue(sized.selectCell(0, size - 1));
+            assertTrue(sized.isRevealed(size - 1, size - 1));
+            assertFalse(sized.isRevealed(size - 1, size - 2));
+            assertEquals(size * size - 2, sized.getFreeCellCount());
+            assertEquals(GameEngine.State.ANSWER, sized.getState());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(1));
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(GameEngine.MAX_GRID_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Verificar que el par del turno queda bloqueado hasta la respuesta")
+    void testPairLockedWhileAnswering() {
+        int cells = engine.getGridSize() * engine.getGridSize();
+        assertTrue(engine.selectCell(1, 1));
+        assertFalse(engine.isLocked(1, 1), "Una sola casilla todavía no forma un par");
+        assertTrue(engine.selectCell(1, 2));
+        assertTrue(engine.isLocked(1, 1));
+        assertTrue(engine.isLocked(1, 2));
+        assertFalse(engine.isLocked(3, 3));
+        assertEquals(cells - 2, engine.getFreeCellCount());
+        assertTrue(engine.answer(GameEngine.TIMEOUT_ANSWER));
+        assertFalse(engine.isLocked(1, 1), "Al resolver la respuesta se desbloquea el par");
+        assertFalse(engine.isLocked(1, 2));
+        assertTrue(engine.isRevealed(1, 1), "El par sigue destapado hasta el cambio de turno");
+        engine.nextPlayer();
+        assertEquals(cells, engine.getFreeCellCount(), "Al cambiar de turno el par vuelve a estar libre");
+        // Una partida nueva empieza sin casillas bloqueadas aunque se corte a mitad de turno
+        engine.selectCell(0, 0);
+        engine.selectCell(0, 1);
+        engine.newGame();
+        assertFalse(engine.isLocked(0, 0));
+        assertEquals(cells, engine.getFreeCellCount());
+    }
+
+    @Test
+    @DisplayName("Verificar que la partida termina cuando los tres jugadores intentaron")
+    void testGameOver() {
+        for (int player = 0; player < GameEngine.PLAYER_COUNT; player++) {
+            assertEquals(player, engine.getCurrentPlayer());
+            engine.selectCell(player, 0);
+            engine.selectCell(player, 1);
+            engine.answer(player == 1 ? engine.getCorrectResult() : GameEngine.TIMEOUT_ANSWER);
+            engine.nextPlayer();
+        }
+        assertEquals(GameEngine.State.GAME_OVER, engine.getState());
+        assertEquals("fin", events.get(events.size() - 1));
+        assertEquals(10, engine.getScore(1));
+        assertFalse(engine.selectCell(5, 5), "No se aceptan movimientos al terminar la partida");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class GameReplayTest {
+
+    // Observador que guarda cada evento como texto para comparar partidas
+    private static final class EventLog implements GameListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void cellRevealed(int row, int col, int value) {
+            events.add("destapa " + row + "," + col + "=" + value);
+        }
+
+        @Override
+        public void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+            events.add(firstNumber + " " + operator + " " + secondNumber + " " + Arrays.toString(options));
+        }
+
+        @Override
+        public void answerResolved(int player, int selectedAnswer, boolean correct) {
+            events.add("respuesta " + player + " " + selectedAnswer + " " + correct);
+        }
+
+        @Override
+        public void gameOver(int[] scores) {
+            events.add("fin " + Arrays.toString(scores));
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que la misma semilla genera la misma cuadrícula")
+    void testSameSeedSameGrid() {
+        GameEngine first = new GameEngine(GameEngine.GRID_SIZE, 1234L);
+        GameEngine second = new GameEngine(GameEngine.GRID_SIZE, 1234L);
+        first.newGame();
+        second.newGame();
+        for (int row = 0; row < GameEngine.GRID_SIZE; row++) {
+            for (int col = 0; col < GameEngine.GRID_SIZE; col++) {
+                assertEquals(first.getNumber(row, col), second.getNumber(row, col));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que las partidas registradas se reproducen bit a bit")
+    void testReplayReproducesGames() {
+        SplittableRandom moves = new SplittableRandom(99);
+        for (int game = 0; game < 200; game++) {
+            GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, moves.nextLong());
+            EventLog original = new EventLog();
+            engine.setListener(original);
+            MoveLog log = engine.startRecording();
+            // Dos partidas seguidas en el mismo motor, con respuestas y tiempos agotados al azar
+            for (int match = 0; match < 2; match++) {
+                engine.newGame();
+                while (engine.getState() != GameEngine.State.GAME_OVER) {
+                    engine.selectCell(0, 0); // Rechazado a veces: no debe quedar en el registro
+                    if (engine.getState() == GameEngine.State.SELECT_SECOND) {
+                        engine.selectCell(0, 0);
+                    }
+                    int cell = engine.randomFreeCell(moves);
+                    engine.selectCell(cell / GameEngine.GRID_SIZE, cell % GameEngine.GRID_SIZE);
+                    if (engine.getState() == GameEngine.State.SELECT_SECOND) {
+                        cell = engine.randomFreeCell(moves);
+                        engine.selectCell(cell / GameEngine.GRID_SIZE, cell % GameEngine.GRID_SIZE);
+                    }
+                    int[] options = engine.getAnswerOptions();
+                    if (moves.nextInt(4) == 0) {
+                        engine.timeout();
+                    } else {
+                        engine.answer(options[moves.nextInt(options.length)]);
+                    }
+                    engine.nextPlayer();
+                }
+            }
+
+            EventLog replayed = new EventLog();
+            GameEngine copy = GameReplay.replay(log.toByteArray(), replayed);
+            assertEquals(original.events, replayed.events, "La repetición debe producir los mismos eventos");
+            for (int player = 0; player < GameEngine.PLAYER_COUNT; player++) {
+                assertEquals(engine.getScore(player), copy.getScore(player));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que el registro es compacto y que se rechaza un registro inválido")
+    void testLogFormat() {
+        GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, 5L);
+        MoveLog log = engine.startRecording();
+        engine.newGame();
+        engine.selectCell(0, 0);
+        engine.selectCell(0, 1);
+        engine.timeout();
+        engine.nextPlayer();
+        // Cabecera de 17 bytes y 11 bytes para los cinco movimientos (la nueva partida guarda su nivel
+        // y sus operadores)
+        assertEquals(28, log.size());
+        byte[] bytes = log.toByteArray();
+        bytes[0] = 'X';
+        assertThrows(IllegalArgumentException.class, () -> GameReplay.replay(bytes));
+    }
+
+    @Test
+    @DisplayName("Verificar que una sesión del servidor se puede reproducir")
+    void testServerSessionReplay() throws Exception {
+        try (GameServer server = new GameServer(GameEngine.GRID_SIZE, GameClock.SYSTEM, false, 77L)) {
+            long id = server.createSession();
+            for (int player = 0; player < GameEngine.PLAYER_COUNT; player++) {
+                server.select(id, player, 0).get();
+                MoveReply reply = server.select(id, player, 1).get();
+                server.answer(id, reply.getOption(0)).get();
+            }
+            GameEngine copy = GameReplay.replay(server.getSession(id).exportMoveLog());
+            assertEquals(GameEngine.State.GAME_OVER, copy.getState());
+            for (int player = 0; player < GameEngine.PLAYER_COUNT; player++) {
+                assertEquals(server.getSession(id).getScore(player), copy.getScore(player));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+public class GameServerTest {
+
+    @Test
+    @DisplayName("Verificar que una sesión del servidor completa una partida de tres turnos")
+    void testSessionPlaysFullGame() throws Exception {
+        try (GameServer server = new GameServer()) {
+            long id = server.createSession();
+            for (int player = 0; player < GameEngine.PLAYER_COUNT; player++) {
+                assertTrue(server.select(id, 0, 0).get().isAccepted());
+                MoveReply reply = server.select(id, 0, 1).get();
+                assertEquals(GameEngine.State.ANSWER, reply.getState());
+                assertEquals(DistractorGenerator.OPTION_COUNT, reply.getOptionCount());
+                reply = server.timeout(id).get();
+                assertTrue(reply.isAccepted());
+            }
+            assertEquals(GameEngine.State.GAME_OVER, server.select(id, 1, 1).get().getState());
+            assertEquals(1, server.getSession(id).getCompletedGames());
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar muchas partidas concurrentes e independientes con clientes locales")
+    void testConcurrentMatches() throws Exception {
+        try (GameServer server = new GameServer()) {
+            SplittableRandom seeds = new SplittableRandom(1);
+            List<CompletableFuture<Void>> matches = new ArrayList<>();
+            List<LoopbackClient> clients = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                LoopbackClient client = new LoopbackClient(server, GameEngine.GRID_SIZE, seeds.split());
+                clients.add(client);
+                matches.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        client.playMatch();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+            }
+            CompletableFuture.allOf(matches.toArray(new CompletableFuture<?>[0])).get();
+            assertEquals(0, server.sessionCount(), "Las sesiones terminadas deberían cerrarse");
+            for (LoopbackClient client : clients) {
+                // Tres turnos de tres movimientos cada uno
+                assertEquals(9, client.getLatencies().length);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que una sesión cerrada rechaza movimientos")
+    void testClosedSession() throws Exception {
+        try (GameServer server = new GameServer()) {
+            long id = server.createSession();
+            server.closeSession(id);
+            assertThrows(Exception.class, () -> server.select(id, 0, 0).get());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+// Arnés sin JavaFX que reproduce el flujo de MathGridGame sobre un GameEngine: clics, cuenta
+// regresiva en una TimingWheel, respuestas y el cambio de turno diferido con runLater. El tiempo
+// sale de un reloj falso que solo avanza con pulse(), el equivalente al pulso del AnimationTimer
+// de la vista, así que agotar los TIMER_SECONDS de un turno no espera nada real.
+final class HeadlessGame implements GameListener {
+    static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60; // Un pulso de JavaFX a 60 Hz
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50); // Resolución de la rueda, como en la vista
+
+    // Reloj falso: solo avanza cuando la prueba lo pide
+    static final class FakeClock implements GameClock {
+        private long now; // Hora actual en nanosegundos
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        void advance(long nanos) {
+            now += nanos;
+        }
+    }
+
+    final FakeClock clock = new FakeClock();
+    final GameEngine engine;
+    private final TimingWheel wheel; // Temporizadores de los turnos
+    private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>(); // Cola de runLater
+    private TurnCountdown timer; // Cuenta regresiva del turno en curso
+    int turnsStarted; // Turnos empezados (incluido el primero)
+    int ticks; // Ticks visibles de la cuenta regresiva
+    int lastSecondsLeft = -1; // Último tiempo restante informado
+    int correct; // Respuestas correctas
+    int wrong; // Respuestas incorrectas elegidas
+    int timeouts; // Turnos con el tiempo agotado
+    int gameOvers; // Veces que terminó la partida
+    int[] finalScores; // Puntuaciones informadas al terminar
+
+    HeadlessGame(GameEngine engine) {
+        this.engine = engine;
+        this.wheel = new TimingWheel(TICK_NANOS, 64, clock.nanoTime());
+        engine.addListener(this);
+    }
+
+    // Equivalente a Platform.runLater: se ejecuta en el próximo pulso (se puede llamar desde otros hilos)
+    void runLater(Runnable action) {
+        pending.add(action);
+    }
+
+    // Un pulso: avanza el reloj un cuadro, ejecuta lo pendiente de runLater y avanza la rueda
+    void pulse() {
+        clock.advance(FRAME_NANOS);
+        Runnable action;
+        while ((action = pending.poll()) != null) {
+            action.run();
+        }
+        wheel.advanceTo(clock.nanoTime());
+    }
+
+    // Pulsos consecutivos hasta cubrir el tiempo indicado
+    void advance(long nanos) {
+        long end = clock.nanoTime() + nanos;
+        while (clock.nanoTime() < end) {
+            pulse();
+        }
+    }
+
+    // Clic en una casilla, como GridView
+    boolean click(int row, int col) {
+        return engine.selectCell(row, col);
+    }
+
+    // Clic en una opción de respuesta: detiene la cuenta regresiva y responde
+    boolean answer(int value) {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        return engine.answer(value);
+    }
+
+    // Segundos de pulsos necesarios para que se agote el turno (TIMER_SECONDS ticks y uno más)
+    static long timeoutNanos() {
+        return TimeUnit.SECONDS.toNanos(GameEngine.TIMER_SECONDS + 1);
+    }
+
+    @Override
+    public void turnStarted(int player) {
+        turnsStarted++;
+    }
+
+    @Override
+    public void operationReady(int firstNumber, char operator, int secondNumber, int[] options) {
+        timer = new TurnCountdown(wheel, engine, engine.getTurnNumber());
+        timer.start();
+    }
+
+    @Override
+    public void timerTicked(int player, int secondsLeft) {
+        ticks++;
+        lastSecondsLeft = secondsLeft;
+    }
+
+    @Override
+    public void answerResolved(int player, int selectedAnswer, boolean isCorrect) {
+        timer = null;
+        if (selectedAnswer == GameEngine.TIMEOUT_ANSWER) {
+            timeouts++;
+        } else if (isCorrect) {
+            correct++;
+        } else {
+            wrong++;
+        }
+        runLater(engine::nextPlayer);
+    }
+
+    @Override
+    public void gameOver(int[] scores) {
+        gameOvers++;
+        finalScores = scores;
+    }
+}
\ No newline at end of file
@@ -1,220 +1,328 @@
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.DisplayName;
-import static org.junit.jupiter.api.Assertions.*;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-
-public class MathGridGameTest {
-    
-    private MathGridGame game;
-    
-    @BeforeEach
-    void setUp() {
-        // Creamos una instancia del juego para cada test
-        game = new MathGridGame();
-    }
-    
-    @Test
-    @DisplayName("Verificar que la cuadrícula se inicializa con números en el rango correcto")
-    void testInitializeGrid() throws Exception {
-        // Usamos reflexión para acceder al método privado
-        Method initializeGrid = MathGridGame.class.getDeclaredMethod("initializeGrid");
-        initializeGrid.setAccessible(true);
-        initializeGrid.invoke(game);
-        
-        // Accedemos a la matriz de números
-        Field gridNumbersField = MathGridGame.class.getDeclaredField("gridNumbers");
-        gridNumbersField.setAccessible(true);
-        int[][] gridNumbers = (int[][]) gridNumbersField.get(game);
-        
-        // Verificamos que todos los números están en el rango correcto
-        for (int row = 0; row < 8; row++) {
-            for (int col = 0; col < 8; col++) {
-                int number = gridNumbers[row][col];
-                assertTrue(number >= 10 && number <= 99, 
-                    "El número " + number + " en posición [" + row + "][" + col + "] está fuera del rango 10-99");
-            }
-        }
-    }
-    
-    @Test
-    @DisplayName("Verificar que la operación de suma se genera correctamente")
-    void testGenerateOperationSum() throws Exception {
-        // Configuramos números conocidos
-        setPrivateField("firstNumber", 25);
-        setPrivateField("secondNumber", 17);
-        
-        // Ejecutamos generateOperation múltiples veces para verificar suma
-        Method generateOperation = MathGridGame.class.getDeclaredMethod("generateOperation");
-        generateOperation.setAccessible(true);
-        
-        boolean foundSum = false;
-        for (int i = 0; i < 20; i++) { // Intentamos varias veces ya que es aleatorio
-            generateOperation.invoke(game);
-            String operation = (String) getPrivateField("operation");
-            int result = (int) getPrivateField("correctResult");
-            
-            if ("+".equals(operation)) {
-                assertEquals(42, result, "La suma 25 + 17 debería ser 42");
-                foundSum = true;
-                break;
-            }
-        }
-        assertTrue(foundSum, "Debería generar operación de suma al menos una vez");
-    }
-    
-    @Test
-    @DisplayName("Verificar que la operación de resta se genera correctamente")
-    void testGenerateOperationSubtraction() throws Exception {
-        // Configuramos números conocidos
-        setPrivateField("firstNumber", 25);
-        setPrivateField("secondNumber", 17);
-        
-        // Ejecutamos generateOperation múltiples veces para verificar resta
-        Method generateOperation = MathGridGame.class.getDeclaredMethod("generateOperation");
-        generateOperation.setAccessible(true);
-        
-        boolean foundSubtraction = false;
-        for (int i = 0; i < 20; i++) { // Intentamos varias veces ya que es aleatorio
-            generateOperation.invoke(game);
-            String operation = (String) getPrivateField("operation");
-            int result = (int) getPrivateField("correctResult");
-            
-            if ("-".equals(operation)) {
-                assertEquals(8, result, "La resta 25 - 17 debería ser 8");
-                foundSubtraction = true;
-                break;
-            }
-        }
-        assertTrue(foundSubtraction, "Debería generar operación de resta al menos una vez");
-    }
-    
-    @Test
-    @DisplayName("Verificar que las puntuaciones se inicializan correctamente")
-    void testInitialPlayerScores() throws Exception {
-        Field playerScoresField = MathGridGame.class.getDeclaredField("playerScores");
-        playerScoresField.setAccessible(true);
-        int[] playerScores = (int[]) playerScoresField.get(game);
-        
-        // Verificamos que las 3 puntuaciones inician en 0
-        assertEquals(3, playerScores.length, "Debería haber exactamente 3 jugadores");
-        for (int i = 0; i < playerScores.length; i++) {
-            assertEquals(0, playerScores[i], "La puntuación del jugador " + (i + 1) + " debería iniciar en 0");
-        }
-    }
-    
-    @Test
-    @DisplayName("Verificar que el jugador actual se inicializa correctamente")
-    void testInitialCurrentPlayer() throws Exception {
-        int currentPlayer = (int) getPrivateField("currentPlayer");
-        assertEquals(0, currentPlayer, "El jugador actual debería iniciar en 0 (Jugador 1)");
-    }
-    
-    @Test
-    @DisplayName("Verificar que el contador de selecciones se inicializa correctamente")
-    void testInitialSelectedCount() throws Exception {
-        int selectedCount = (int) getPrivateField("selectedCount");
-        assertEquals(0, selectedCount, "El contador de selecciones debería iniciar en 0");
-    }
-    
-    @Test
-    @DisplayName("Verificar que los intentos de jugadores se inicializan correctamente")
-    void testInitialPlayerAttempts() throws Exception {
-        Field playerAttemptsField = MathGridGame.class.getDeclaredField("playerAttempts");
-        playerAttemptsField.setAccessible(true);
-        boolean[] playerAttempts = (boolean[]) playerAttemptsField.get(game);
-        
-        // Verificamos que los 3 intentos inician en false
-        assertEquals(3, playerAttempts.length, "Debería haber exactamente 3 intentos de jugadores");
-        for (int i = 0; i < playerAttempts.length; i++) {
-            assertFalse(playerAttempts[i], "El intento del jugador " + (i + 1) + " debería iniciar en false");
-        }
-    }
-    
-    @Test
-    @DisplayName("Verificar que isProcessing se inicializa correctamente")
-    void testInitialIsProcessing() throws Exception {
-        boolean isProcessing = (boolean) getPrivateField("isProcessing");
-        assertFalse(isProcessing, "isProcessing debería iniciar en false");
-    }
-    
-    @Test
-    @DisplayName("Verificar constantes del juego")
-    void testGameConstants() throws Exception {
-        // Verificamos las constantes usando reflexión
-        Field gridSizeField = MathGridGame.class.getDeclaredField("GRID_SIZE");
-        gridSizeField.setAccessible(true);
-        assertEquals(8, gridSizeField.get(null), "GRID_SIZE debería ser 8");
-        
-        Field maxNumberField = MathGridGame.class.getDeclaredField("MAX_NUMBER");
-        maxNumberField.setAccessible(true);
-        assertEquals(99, maxNumberField.get(null), "MAX_NUMBER debería ser 99");
-        
-        Field minNumberField = MathGridGame.class.getDeclaredField("MIN_NUMBER");
-        minNumberField.setAccessible(true);
-        assertEquals(10, minNumberField.get(null), "MIN_NUMBER debería ser 10");
-        
-        Field timerSecondsField = MathGridGame.class.getDeclaredField("TIMER_SECONDS");
-        timerSecondsField.setAccessible(true);
-        assertEquals(15, timerSecondsField.get(null), "TIMER_SECONDS debería ser 15");
-    }
-    
-    @Test
-    @DisplayName("Verificar que la cuadrícula tiene el tamaño correcto")
-    void testGridSize() throws Exception {
-        Field gridNumbersField = MathGridGame.class.getDeclaredField("gridNumbers");
-        gridNumbersField.setAccessible(true);
-        int[][] gridNumbers = (int[][]) gridNumbersField.get(game);
-        
-        assertEquals(8, gridNumbers.length, "La cuadrícula debería tener 8 filas");
-        for (int i = 0; i < gridNumbers.length; i++) {
-            assertEquals(8, gridNumbers[i].length, "Cada fila debería tener 8 columnas");
-        }
-    }
-    
-    @Test
-    @DisplayName("Verificar operaciones matemáticas específicas")
-    void testSpecificMathOperations() throws Exception {
-        // Probamos operaciones específicas
-        testMathOperation(50, 25, "+", 75);
-        testMathOperation(50, 25, "-", 25);
-        testMathOperation(10, 99, "+", 109);
-        testMathOperation(99, 10, "-", 89);
-    }
-    
-    // Métodos auxiliares para acceder a campos privados
-    private Object getPrivateField(String fieldName) throws Exception {
-        Field field = MathGridGame.class.getDeclaredField(fieldName);
-        field.setAccessible(true);
-        return field.get(game);
-    }
-    
-    private void setPrivateField(String fieldName, Object value) throws Exception {
-        Field field = MathGridGame.class.getDeclaredField(fieldName);
-        field.setAccessible(true);
-        field.set(game, value);
-    }
-    
-    private void testMathOperation(int first, int second, String expectedOp, int expectedResult) throws Exception {
-        setPrivateField("firstNumber", first);
-        setPrivateField("secondNumber", second);
-        setPrivateField("operation", expectedOp);
-        
-        Method generateOperation = MathGridGame.class.getDeclaredMethod("generateOperation");
-        generateOperation.setAccessible(true);
-        
-        // Forzamos la operación específica modificando temporalmente
-        if ("+".equals(expectedOp)) {
-            setPrivateField("operation", "+");
-            setPrivateField("correctResult", first + second);
-        } else {
-            setPrivateField("operation", "-");
-            setPrivateField("correctResult", first - second);
-        }
-        
-        int result = (int) getPrivateField("correctResult");
-        assertEquals(expectedResult, result, 
-            "La operación " + first + " " + expectedOp + " " + second + " debería ser " + expectedResult);
-    }
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class MathGridGameTest {
+    
+    private GameEngine game;
+    
+    @BeforeEach
+    void setUp() {
+        // Creamos una instancia del motor del juego para cada test (no requiere JavaFX)
+        game = new GameEngine();
+    }
+    
+    @Test
+    @DisplayName("Verificar que la cuadrícula se inicializa con números en el rango correcto")
+    void testInitializeGrid() {
+        game.initializeGrid();
+        
+        // Verificamos que todos los números están en el rango correcto
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 8; col++) {
+                int number = game.getNumber(row, col);
+                assertTrue(number >= 10 && number <= 99, 
+                    "El número " + number + " en posición [" + row + "][" + col + "] está fuera del rango 10-99");
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Verificar que la operación de suma se genera correctamente")
+    void testGenerateOperationSum() {
+        game.setOperators(Operator.ADD);
+        selectKnownPair(25, 17);
+        assertEquals('+', game.getOperator());
+        assertEquals(42, game.getCorrectResult(), "La suma 25 + 17 debería ser 42");
+    }
+    
+    @Test
+    @DisplayName("Verificar que la operación de resta se genera correctamente")
+    void testGenerateOperationSubtraction() {
+        game.setOperators(Operator.SUBTRACT);
+        selectKnownPair(25, 17);
+        assertEquals('-', game.getOperator());
+        assertEquals(8, game.getCorrectResult(), "La resta 25 - 17 debería ser 8");
+    }
+    
+    @Test
+    @DisplayName("Verificar que las puntuaciones se inicializan correctamente")
+    void testInitialPlayerScores() {
+        // Verificamos que las 3 puntuaciones inician en 0
+        assertEquals(3, GameEngine.PLAYER_COUNT, "Debería haber exactamente 3 jugadores");
+        for (int i = 0; i < GameEngine.PLAYER_COUNT; i++) {
+            assertEquals(0, game.getScore(i), "La puntuación del jugador " + (i + 1) + " debería iniciar en 0");
+        }
+    }
+    
+    @Test
+    @DisplayName("Verificar que el jugador actual se inicializa correctamente")
+    void testInitialCurrentPlayer() {
+        assertEquals(0, game.getCurrentPlayer(), "El jugador actual debería iniciar en 0 (Jugador 1)");
+    }
+    
+    @Test
+    @DisplayName("Verificar que el contador de selecciones se inicializa correctamente")
+    void testInitialSelectedCount() {
+        assertEquals(0, game.getSelectedCount(), "El contador de selecciones debería iniciar en 0");
+    }
+    
+    @Test
+    @DisplayName("Verificar que los intentos de jugadores se inicializan correctamente")
+    void testInitialPlayerAttempts() {
+        // Verificamos que los 3 intentos inician en false
+        for (int i = 0; i < GameEngine.PLAYER_COUNT; i++) {
+            assertFalse(game.hasAttempted(i), "El intento del jugador " + (i + 1) + " debería iniciar en false");
+        }
+    }
+    
+    @Test
+    @DisplayName("Verificar que la partida inicia esperando la primera casilla")
+    void testInitialState() {
+        assertEquals(GameEngine.State.SELECT_FIRST, game.getState(), "La partida debería iniciar en SELECT_FIRST");
+    }
+    
+    @Test
+    @DisplayName("Verificar constantes del juego")
+    void testGameConstants() {
+        assertEquals(8, GameEngine.GRID_SIZE, "GRID_SIZE debería ser 8");
+        assertEquals(99, GameEngine.MAX_NUMBER, "MAX_NUMBER debería ser 99");
+        assertEquals(10, GameEngine.MIN_NUMBER, "MIN_NUMBER debería ser 10");
+        assertEquals(15, GameEngine.TIMER_SECONDS, "TIMER_SECONDS debería ser 15");
+    }
+    
+    @Test
+    @DisplayName("Verificar que la cuadrícula tiene el tamaño correcto")
+    void testGridSize() {
+        game.initializeGrid();
+        assertDoesNotThrow(() -> game.getNumber(7, 7), "La cuadrícula debería tener 8 filas y 8 columnas");
+        assertThrows(IndexOutOfBoundsException.class, () -> game.getNumber(8, 0), "No debería existir la fila 9");
+        assertThrows(IndexOutOfBoundsException.class, () -> game.getNumber(0, 8), "No debería existir la columna 9");
+    }
+    
+    @Test
+    @DisplayName("Verificar operaciones matemáticas específicas")
+    void testSpecificMathOperations() {
+        // Probamos operaciones específicas
+        testMathOperation(50, 25, '+', 75);
+        testMathOperation(50, 25, '-', 25);
+        testMathOperation(10, 99, '+', 109);
+        testMathOperation(99, 10, '-', 89);
+    }
+    
+    // Inicia una partida nueva y destapa dos casillas con números conocidos
+    private void selectKnownPair(int first, int second) {
+        game.newGame();
+        game.setNumber(0, 0, first);
+        game.setNumber(0, 1, second);
+        assertTrue(game.selectCell(0, 0));
+        assertTrue(game.selectCell(0, 1));
+    }
+    
+    private void testMathOperation(int first, int second, char expectedOp, int expectedResult) {
+        // Con un solo operador habilitado la operación es determinista
+        game.setOperators(Operator.fromSymbol(expectedOp));
+        selectKnownPair(first, second);
+        assertEquals(expectedOp, game.getOperator(), "No se generó el operador " + expectedOp);
+        assertEquals(expectedResult, game.getCorrectResult(), 
+            "La operación " + first + " " + expectedOp + " " + second + " debería ser " + expectedResult);
+    }
+    
+    @Test
+    @DisplayName("Verificar miles de partidas completas con respuestas y tiempos agotados al azar")
+    void testRandomFullGames() {
+        SplittableRandom random = new SplittableRandom(2024);
+        for (int i = 0; i < 3_000; i++) {
+            int gridSize = random.nextInt(2, 11);
+            int players = random.nextInt(1, 7);
+            int teams = random.nextInt(0, players + 1);
+            int rounds = random.nextInt(1, 4);
+            HeadlessGame harness = new HeadlessGame(new GameEngine(gridSize, random.nextLong(), players, teams, rounds));
+            GameEngine engine = harness.engine;
+            engine.newGame();
+            int[] expected = new int[players];
+            int turns = 0;
+            while (engine.getState() != GameEngine.State.GAME_OVER) {
+                assertEquals(GameEngine.State.SELECT_FIRST, engine.getState());
+                assertEquals(turns / players, engine.getRound(), "Ronda incorrecta en el turno " + turns);
+                int player = engine.getCurrentPlayer();
+                assertEquals(turns % players, player);
+                // Dos casillas libres distintas; una casilla ya destapada se rechaza
+                int first = engine.randomFreeCell(random);
+                assertTrue(harness.click(first / gridSize, first % gridSize));
+                assertFalse(harness.click(first / gridSize, first % gridSize));
+                int second = engine.randomFreeCell(random);
+                assertTrue(harness.click(second / gridSize, second % gridSize));
+                checkOptions(engine.getAnswerOptions(), engine.getCorrectResult());
+                switch (random.nextInt(3)) {
+                    case 0:
+                        assertTrue(harness.answer(engine.getCorrectResult()));
+                        expected[player] += GameEngine.POINTS_PER_CORRECT;
+                        break;
+                    case 1:
+                        assertTrue(harness.answer(wrongOption(engine.getAnswerOptions(), engine.getCorrectResult())));
+                        break;
+                    default:
+                        // Sin respuesta, el turno se agota a los TIMER_SECONDS + 1 segundos
+                        long start = harness.clock.nanoTime();
+                        while (engine.getState() == GameEngine.State.ANSWER) {
+                            harness.pulse();
+                        }
+                        long elapsed = harness.clock.nanoTime() - start;
+                        // Con la resolución de la rueda y de los pulsos, a menos de 100 ms de lo esperado
+                        assertTrue(Math.abs(elapsed - HeadlessGame.timeoutNanos()) < TimeUnit.MILLISECONDS.toNanos(100),
+                            "Tiempo agotado a los " + elapsed + " ns");
+                        break;
+                }
+                // El cambio de turno llega con runLater en el pulso siguiente
+                assertEquals(GameEngine.State.NEXT_PLAYER, engine.getState());
+                harness.pulse();
+                turns++;
+            }
+            assertEquals(players * rounds, turns, "La partida debe terminar tras el último intento de la última ronda");
+            assertEquals(turns, harness.correct + harness.wrong + harness.timeouts);
+            assertEquals(turns, harness.turnsStarted);
+            assertEquals(1, harness.gameOvers);
+            assertArrayEquals(expected, harness.finalScores);
+            assertEquals(gridSize * gridSize, engine.getFreeCellCount(), "Las casillas deben volver a ocultarse");
+        }
+    }
+    
+    @Test
+    @DisplayName("Verificar el camino del tiempo agotado con el reloj falso")
+    void testTimeoutPath() {
+        HeadlessGame harness = new HeadlessGame(new GameEngine(GameEngine.GRID_SIZE, 8L));
+        GameEngine engine = harness.engine;
+        engine.newGame();
+        assertTrue(harness.click(0, 0));
+        assertTrue(harness.click(0, 1));
+        // Tras TIMER_SECONDS segundos el tiempo llega a 0 pero todavía se puede responder
+        harness.advance(TimeUnit.SECONDS.toNanos(GameEngine.TIMER_SECONDS));
+        assertEquals(GameEngine.TIMER_SECONDS, harness.ticks);
+        assertEquals(0, harness.lastSecondsLeft);
+        assertEquals(GameEngine.State.ANSWER, engine.getState());
+        // Un segundo más agota el turno: respuesta incorrecta sin puntos y turno del jugador 2
+        harness.advance(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, harness.timeouts);
+        assertEquals(0, engine.getScore(0));
+        assertTrue(engine.hasAttempted(0));
+        assertFalse(harness.answer(engine.getCorrectResult()), "No se puede responder después del tiempo agotado");
+        harness.pulse();
+        assertEquals(GameEngine.State.SELECT_FIRST, engine.getState());
+        assertEquals(1, engine.getCurrentPlayer());
+        assertFalse(engine.isRevealed(0, 0));
+        // La cuenta regresiva del turno anterior ya no corre: el siguiente turno tiene todo su tiempo
+        harness.advance(HeadlessGame.timeoutNanos());
+        assertEquals(1, harness.timeouts);
+        assertTrue(harness.click(0, 0));
+        assertTrue(harness.click(0, 1));
+        harness.advance(TimeUnit.SECONDS.toNanos(3));
+        assertTrue(harness.answer(engine.getCorrectResult()));
+        harness.advance(HeadlessGame.timeoutNanos());
+        assertEquals(1, harness.timeouts, "Responder debe cancelar la cuenta regresiva");
+        assertEquals(GameEngine.POINTS_PER_CORRECT, engine.getScore(1));
+    }
+    
+    @Test
+    @DisplayName("Verificar que nextPlayer detecta el fin de la partida para cualquier cantidad de jugadores y rondas")
+    void testEndOfGameDetection() {
+        for (int players = 1; players <= 9; players++) {
+            for (int rounds = 1; rounds <= 4; rounds++) {
+                GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, players * 31L + rounds, players, 0, rounds);
+                HeadlessGame harness = new HeadlessGame(engine);
+                engine.newGame();
+                for (int turn = 0; turn < players * rounds; turn++) {
+                    assertEquals(0, harness.gameOvers, "Fin prematuro en el turno " + turn);
+                    assertTrue(harness.click(0, 0));
+                    assertTrue(harness.click(1, 1));
+                    assertTrue(harness.answer(GameEngine.TIMEOUT_ANSWER));
+                    harness.pulse();
+                }
+                assertEquals(GameEngine.State.GAME_OVER, engine.getState());
+                assertEquals(1, harness.gameOvers);
+                // Después del fin no hay más turnos ni se repite gameOver
+                engine.nextPlayer();
+                assertFalse(harness.click(0, 0));
+                assertEquals(1, harness.gameOvers);
+                assertEquals(players * rounds, harness.turnsStarted);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Verificar las opciones de respuesta del motor en todo el espacio de operandos")
+    void testOptionsAcrossOperandSpace() {
+        GameEngine engine = new GameEngine(2, 99L, 1, 0, 1);
+        for (Operator operator : Operator.values()) {
+            engine.setOperators(operator);
+            for (int first = GameEngine.MIN_NUMBER; first <= GameEngine.MAX_NUMBER; first++) {
+                for (int second = GameEngine.MIN_NUMBER; second <= GameEngine.MAX_NUMBER; second++) {
+                    engine.newGame();
+                    engine.setNumber(0, 0, first);
+                    engine.setNumber(1, 1, second);
+                    assertTrue(engine.selectCell(0, 0));
+                    assertTrue(engine.selectCell(1, 1));
+                    assertEquals(operator.apply(first, second), engine.getCorrectResult());
+                    checkOptions(engine.getAnswerOptions(), engine.getCorrectResult());
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Verificar partidas de bots que piensan en otros hilos y juegan con runLater")
+    void testConcurrentBotGames() throws Exception {
+        ForkJoinPool thinkers = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 200; i++) {
+                int players = 2 + i % 5;
+                GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, i, players, 0, 2);
+                HeadlessGame harness = new HeadlessGame(engine);
+                BotPlayer[] seats = new BotPlayer[players];
+                for (int seat = 0; seat < players; seat++) {
+                    seats[seat] = new RandomBot(BotSkill.uniform(0.5), i * 10L + seat);
+                }
+                engine.addListener(new BotDriver(engine, seats, harness::runLater, thinkers));
+                engine.newGame();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (harness.gameOvers == 0) {
+                    assertTrue(System.nanoTime() < deadline, "La partida de bots no terminó");
+                    harness.pulse();
+                }
+                assertEquals(players * 2, harness.correct + harness.wrong + harness.timeouts);
+                assertEquals(harness.correct * GameEngine.POINTS_PER_CORRECT, Arrays.stream(harness.finalScores).sum());
+            }
+        } finally {
+            thinkers.shutdownNow();
+        }
+    }
+    
+    // Cuatro opciones distintas y la correcta exactamente una vez
+    private static void checkOptions(int[] options, int correct) {
+        assertEquals(DistractorGenerator.OPTION_COUNT, options.length);
+        int found = 0;
+        for (int i = 0; i < options.length; i++) {
+            if (options[i] == correct) {
+                found++;
+            }
+            for (int j = i + 1; j < options.length; j++) {
+                assertNotEquals(options[i], options[j], "Opciones repetidas");
+            }
+        }
+        assertEquals(1, found, "La respuesta correcta debe aparecer exactamente una vez");
+    }
+    
+    private static int wrongOption(int[] options, int correct) {
+        for (int option : options) {
+            if (option != correct) {
+                return option;
+            }
+        }
+        throw new AssertionError("No hay opciones incorrectas");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+public class MetricsTest {
+
+    @Test
+    @DisplayName("Verificar que cada valor cae en una cubeta que lo contiene")
+    void testBucketBounds() {
+        SplittableRandom random = new SplittableRandom(1L);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(1L << random.nextInt(1, 41));
+            int index = LatencyHistogram.index(value);
+            assertTrue(value <= LatencyHistogram.upperBound(index), "valor " + value);
+            assertTrue(index == 0 || value > LatencyHistogram.upperBound(index - 1), "valor " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que los percentiles tienen menos de 7% de error relativo")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram("prueba");
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000L);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000L, histogram.getMax());
+        assertEquals(50_000_000.0, histogram.percentile(50.0), 50_000_000 * 0.07);
+        assertEquals(99_000_000.0, histogram.percentile(99.0), 99_000_000 * 0.07);
+        assertEquals(100_000_000L, histogram.percentile(100.0));
+        assertEquals(0L, new LatencyHistogram("vacio").percentile(99.0));
+    }
+
+    @Test
+    @DisplayName("Verificar que el punto de consulta local devuelve las métricas en texto plano")
+    void testScrapeEndpoint() throws IOException {
+        Metrics.recordAnswer(GameEngine.TIMEOUT_ANSWER, false);
+        Metrics.recordPulseGap(Metrics.STALL_NANOS + 1);
+        try (MetricsServer server = MetricsServer.start(0)) {
+            URL url = new URL("http://127.0.0.1:" + server.getPort() + "/metrics");
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            assertEquals(200, connection.getResponseCode());
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            assertTrue(body.contains("mathgrid_answers_timeout "));
+            assertFalse(body.contains("mathgrid_answers_timeout 0\n"));
+            assertFalse(body.contains("mathgrid_fx_stalls 0\n"));
+            assertTrue(body.contains("mathgrid_click_to_reveal_nanos{quantile=\"0.99\"}"));
+        }
+    }
+}
\ No newline at end of file
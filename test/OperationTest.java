@@ -0,0 +1,124 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+public class OperationTest {
+
+    @Test
+    @DisplayName("Verificar que codificar y decodificar una operación conserva operador y operandos")
+    void testEncodeRoundTrip() {
+        boolean[] seen = new boolean[Operation.SPACE];
+        for (Operator operator : Operator.values()) {
+            for (int first = GameEngine.MIN_NUMBER; first <= GameEngine.MAX_NUMBER; first++) {
+                for (int second = GameEngine.MIN_NUMBER; second <= GameEngine.MAX_NUMBER; second++) {
+                    int operation = Operation.encode(first, second, operator);
+                    assertEquals(first, Operation.firstNumber(operation));
+                    assertEquals(second, Operation.secondNumber(operation));
+                    assertSame(operator, Operation.operator(operation));
+                    assertEquals(operator.apply(first, second), Operation.result(operation));
+                    int index = Operation.index(operation);
+                    assertFalse(seen[index], "Índice repetido: " + index);
+                    seen[index] = true;
+                }
+            }
+        }
+        assertEquals(Operator.ADD, Operator.fromSymbol('+'));
+        assertEquals(3, Operator.parse("*-*/").length);
+        assertThrows(IllegalArgumentException.class, () -> Operator.parse(""));
+    }
+
+    @Test
+    @DisplayName("Verificar las opciones de la tabla en todo el espacio de operaciones")
+    void testTableOptions() {
+        OptionTable table = new OptionTable(StrategyDistractorGenerator.standard(GameEngine.MIN_NUMBER, GameEngine.MAX_NUMBER));
+        table.precompute();
+        SplittableRandom random = new SplittableRandom(7);
+        int[] options = new int[DistractorGenerator.OPTION_COUNT];
+        int[] again = new int[DistractorGenerator.OPTION_COUNT];
+        for (Operator operator : Operator.values()) {
+            int min = operator.minResult(GameEngine.MIN_NUMBER, GameEngine.MAX_NUMBER);
+            int max = operator.maxResult(GameEngine.MIN_NUMBER, GameEngine.MAX_NUMBER);
+            for (int first = GameEngine.MIN_NUMBER; first <= GameEngine.MAX_NUMBER; first++) {
+                for (int second = GameEngine.MIN_NUMBER; second <= GameEngine.MAX_NUMBER; second++) {
+                    int operation = Operation.encode(first, second, operator);
+                    table.fillOptions(operation, options, random);
+                    int found = 0;
+                    for (int i = 0; i < options.length; i++) {
+                        assertTrue(options[i] >= min && options[i] <= max,
+                            "Opción " + options[i] + " fuera de rango para " + first + " " + operator.symbol() + " " + second);
+                        if (options[i] == operator.apply(first, second)) {
+                            found++;
+                        }
+                        for (int j = i + 1; j < options.length; j++) {
+                            assertNotEquals(options[i], options[j]);
+                        }
+                    }
+                    assertEquals(1, found, "La respuesta correcta debe aparecer exactamente una vez");
+                    // Una tabla nueva llena la misma entrada con las mismas opciones
+                    OptionTable.STANDARD.fillOptions(operation, again, new SplittableRandom(7));
+                    assertEquals(sum(options), sum(again));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar una partida con multiplicación y división y su repetición")
+    void testAllOperators() {
+        GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, 11L);
+        engine.setOperators(Operator.MULTIPLY, Operator.DIVIDE);
+        MoveLog log = engine.startRecording();
+        engine.newGame();
+        for (int cell = 0; cell + 1 < GameEngine.GRID_SIZE * GameEngine.GRID_SIZE; cell += 2) {
+            engine.selectCell(cell / GameEngine.GRID_SIZE, cell % GameEngine.GRID_SIZE);
+            engine.selectCell((cell + 1) / GameEngine.GRID_SIZE, (cell + 1) % GameEngine.GRID_SIZE);
+            char operator = engine.getOperator();
+            assertTrue(operator == '*' || operator == '/', "Operador inesperado: " + operator);
+            assertEquals(Operation.result(engine.getOperation()), engine.getCorrectResult());
+            engine.answer(engine.getCorrectResult());
+            if (engine.getState() == GameEngine.State.GAME_OVER) {
+                break;
+            }
+            engine.nextPlayer();
+            if (engine.getState() == GameEngine.State.GAME_OVER) {
+                break;
+            }
+        }
+        GameEngine replayed = GameReplay.replay(log.toByteArray());
+        assertArrayEquals(engine.getScoreboard().copyScores(), replayed.getScoreboard().copyScores());
+        assertArrayEquals(new Operator[] {Operator.MULTIPLY, Operator.DIVIDE}, replayed.getOperators());
+    }
+
+    @Test
+    @DisplayName("Verificar que servir opciones de la tabla no asigna memoria")
+    void testNoAllocation() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        SplittableRandom random = new SplittableRandom(3);
+        int[] options = new int[DistractorGenerator.OPTION_COUNT];
+        for (int i = 0; i < 10_000; i++) {
+            OptionTable.STANDARD.fillOptions(operation(i), options, random);
+        }
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            OptionTable.STANDARD.fillOptions(operation(i), options, random);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        assertTrue(allocated < 1_024, "Bytes asignados en 100000 consultas: " + allocated);
+    }
+
+    private static int operation(int i) {
+        return Operation.encode(GameEngine.MIN_NUMBER + i % 90, GameEngine.MIN_NUMBER + i / 90 % 90,
+            Operator.ofOrdinal(i % Operator.COUNT));
+    }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+}
\ No newline at end of file
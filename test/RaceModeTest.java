@@ -0,0 +1,168 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class RaceModeTest {
+
+    @Test
+    @DisplayName("Verificar que el par de cada ronda no repite el flujo que llenó el tablero")
+    void testCellPicksIndependentOfGrid() {
+        int cells = GameEngine.GRID_SIZE * GameEngine.GRID_SIZE;
+        int matches = 0;
+        for (long seed = 0; seed < 32; seed++) {
+            RaceMode race = new RaceMode(GameEngine.GRID_SIZE, seed, 2, 0, 1, GameClock.SYSTEM);
+            race.startRound();
+            GameEngine engine = race.getEngine();
+            // El primer split() de la semilla es el flujo del tablero; con todas las casillas libres
+            // su primer nextInt sería la primera casilla elegida si la carrera lo compartiera
+            int gridPick = new SplittableRandom(seed).split().nextInt(cells);
+            if (engine.getFirstRow() * GameEngine.GRID_SIZE + engine.getFirstCol() == gridPick) {
+                matches++;
+            }
+        }
+        assertTrue(matches < 4, "La primera casilla coincide con el flujo del tablero en " + matches + " de 32 semillas");
+    }
+
+    @Test
+    @DisplayName("Verificar el arbitraje de una ronda: gana la primera respuesta correcta")
+    void testRoundArbitration() {
+        long[] now = {1_000L};
+        RaceMode race = new RaceMode(GameEngine.GRID_SIZE, 4L, 4, 0, 2, () -> now[0]);
+        RaceRound round = race.startRound();
+        int correct = round.getCorrectResult();
+        now[0] += 700L;
+        assertEquals(RaceRound.Outcome.WRONG, race.answer(0, correct + 1));
+        assertEquals(RaceRound.Outcome.ALREADY_ANSWERED, race.answer(0, correct));
+        now[0] += 50L;
+        assertEquals(RaceRound.Outcome.WON, race.answer(2, correct));
+        assertEquals(RaceRound.Outcome.TOO_LATE, race.answer(1, correct));
+        assertEquals(700L, round.getLatencyNanos(0));
+        assertEquals(750L, round.getLatencyNanos(2));
+        assertEquals(-1L, round.getLatencyNanos(3));
+        assertEquals(2, race.finishRound());
+        assertEquals(GameEngine.POINTS_PER_CORRECT, race.getScore(2));
+        assertEquals(RaceRound.Outcome.CLOSED, race.answer(3, correct));
+
+        RaceRound empty = race.startRound();
+        race.answer(1, empty.getCorrectResult() + 1);
+        assertEquals(-1, race.finishRound());
+        assertEquals(RaceRound.Outcome.CLOSED, empty.answer(3, empty.getCorrectResult()));
+        assertTrue(race.isOver());
+        assertNull(race.startRound());
+    }
+
+    @Test
+    @DisplayName("Verificar que cerrar la ronda mientras llegan respuestas nunca da TOO_LATE sin ganador")
+    void testCloseRacingAnswers() throws Exception {
+        int players = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(players + 1);
+        try {
+            for (int r = 0; r < 2_000; r++) {
+                RaceRound round = new RaceRound(12, '+', 34, 46, new int[] {45, 46, 47, 48}, players, GameClock.SYSTEM);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<RaceRound.Outcome>> outcomes = new ArrayList<>();
+                for (int player = 0; player < players; player++) {
+                    int p = player;
+                    outcomes.add(pool.submit(() -> {
+                        start.await();
+                        return round.answer(p, 46);
+                    }));
+                }
+                Future<Integer> closed = pool.submit(() -> {
+                    start.await();
+                    return round.close();
+                });
+                start.countDown();
+                int winner = closed.get();
+                int won = 0;
+                for (int player = 0; player < players; player++) {
+                    RaceRound.Outcome outcome = outcomes.get(player).get();
+                    if (outcome == RaceRound.Outcome.WON) {
+                        won++;
+                        assertEquals(player, winner);
+                    }
+                    if (outcome == RaceRound.Outcome.TOO_LATE) {
+                        assertTrue(winner >= 0, "TOO_LATE en una ronda cerrada sin ganador");
+                    }
+                    if (round.hasAnswered(player)) {
+                        assertEquals(46, round.getChosenAnswer(player));
+                    }
+                }
+                assertEquals(winner >= 0 ? 1 : 0, won);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar con muchos hilos a la vez que cada ronda tiene exactamente un ganador")
+    void testConcurrentAnswerers() throws Exception {
+        int threads = 8;
+        int rounds = 2_000;
+        RaceMode race = new RaceMode(16, 21L, threads, 0, rounds, GameClock.SYSTEM);
+        AtomicIntegerArray wins = new AtomicIntegerArray(rounds);
+        AtomicIntegerArray answered = new AtomicIntegerArray(rounds);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int[] roundIndex = {0};
+        // La acción de la barrera cierra la ronda anterior y abre la siguiente entre tandas
+        CyclicBarrier barrier = new CyclicBarrier(threads, () -> {
+            if (race.getCurrentRound() != null) {
+                race.finishRound();
+                roundIndex[0]++;
+            }
+            if (!race.isOver()) {
+                race.startRound();
+            }
+        });
+        List<Thread> answerers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int player = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int r = 0; r < rounds; r++) {
+                        RaceRound round = race.getCurrentRound();
+                        // Todos responden bien salvo un jugador distinto en cada ronda
+                        int answer = r % threads == player ? round.getCorrectResult() - 1 : round.getCorrectResult();
+                        RaceRound.Outcome outcome = race.answer(player, answer);
+                        if (outcome == RaceRound.Outcome.WON) {
+                            wins.incrementAndGet(roundIndex[0]);
+                        }
+                        answered.incrementAndGet(roundIndex[0]);
+                        barrier.await();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                    barrier.reset();
+                }
+            });
+            answerers.add(thread);
+            thread.start();
+        }
+        for (Thread thread : answerers) {
+            thread.join(60_000L);
+        }
+        assertNull(failure.get());
+        assertTrue(race.isOver());
+        int totalScore = 0;
+        for (int r = 0; r < rounds; r++) {
+            assertEquals(1, wins.get(r), "Ganadores en la ronda " + r);
+            assertEquals(threads, answered.get(r));
+        }
+        for (int player = 0; player < threads; player++) {
+            totalScore += race.getScore(player);
+        }
+        assertEquals(rounds * GameEngine.POINTS_PER_CORRECT, totalScore);
+    }
+}
\ No newline at end of file
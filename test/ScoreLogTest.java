@@ -0,0 +1,170 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class ScoreLogTest {
+
+    @TempDir
+    Path dir;
+
+    private static AnswerEvent event(int studentId, boolean correct, long latencyNanos) {
+        return new AnswerEvent(1_000L, latencyNanos, studentId, 0, 12, 34, '+', correct ? 46 : 45, correct);
+    }
+
+    @Test
+    @DisplayName("Verificar que los eventos se leen tal como se guardaron, también entre segmentos")
+    void testAppendAndRead() throws IOException {
+        try (ScoreLog log = new ScoreLog(dir.resolve("scores.log"), 4, 3, 100)) {
+            for (int i = 0; i < 10; i++) {
+                log.append(new AnswerEvent(i, 100L + i, 7, i % 3, 10 + i, 99 - i, i % 2 == 0 ? '+' : '-', -i, i % 2 == 0));
+            }
+            assertEquals(10, log.eventCount());
+            AnswerEvent sixth = log.read(5);
+            assertEquals(105L, sixth.getLatencyNanos());
+            assertEquals(2, sixth.getPlayer());
+            assertEquals(15, sixth.getFirstNumber());
+            assertEquals(94, sixth.getSecondNumber());
+            assertEquals('-', sixth.getOperator());
+            assertEquals(-5, sixth.getChosenAnswer());
+            assertFalse(sixth.isCorrect());
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que se guardan jugadores por encima de 255 (partidas de aula)")
+    void testLargePlayerNumbers() throws IOException {
+        Path file = dir.resolve("scores.log");
+        try (ScoreLog log = new ScoreLog(file, 8, 2, 5)) {
+            log.append(new AnswerEvent(1L, 10L, 5, 256, 10, 20, '+', 30, true));
+            log.append(new AnswerEvent(2L, 10L, 6, GameEngine.MAX_PLAYERS - 1, 10, 20, '*', 201, false));
+            assertThrows(IllegalArgumentException.class,
+                () -> log.append(new AnswerEvent(3L, 10L, 7, 1 << 16, 10, 20, '+', 30, true)));
+        }
+        try (ScoreLog log = new ScoreLog(file, 8, 2, 5)) {
+            assertEquals(2, log.eventCount());
+            assertEquals(256, log.read(0).getPlayer());
+            assertTrue(log.read(0).isCorrect());
+            assertEquals(GameEngine.MAX_PLAYERS - 1, log.read(1).getPlayer());
+            assertEquals('*', log.read(1).getOperator());
+            assertFalse(log.read(1).isCorrect());
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que los acumulados se recuperan al reabrir el registro")
+    void testRecoverAfterReopen() throws IOException {
+        Path file = dir.resolve("scores.log");
+        try (ScoreLog log = new ScoreLog(file, 8, 2, 5)) {
+            for (int i = 0; i < 13; i++) {
+                log.append(event(i % 2, i % 3 == 0, 1_000L));
+            }
+        }
+        try (ScoreLog log = new ScoreLog(file, 8, 2, 5)) {
+            assertEquals(13, log.eventCount());
+            StudentStats even = log.studentStats(0);
+            assertEquals(7, even.getAttempts());
+            assertEquals(3, even.getCorrect()); // i = 0, 6, 12
+            assertEquals(30, even.getScore());
+            assertEquals(1_000.0, even.getAverageLatencyNanos());
+            assertNull(log.studentStats(42));
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que un registro a medio escribir se descarta al recuperar")
+    void testTornTailIsDiscarded() throws IOException {
+        Path file = dir.resolve("scores.log");
+        crash(file, 5);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xAB}), 4L * ScoreLog.RECORD_BYTES + 5);
+        }
+        try (ScoreLog log = new ScoreLog(file, 16, 1, 1_000)) {
+            assertEquals(4, log.eventCount());
+            assertEquals(40, log.studentStats(3).getScore());
+            log.append(event(3, true, 10L)); // El nuevo evento reemplaza al registro dañado
+            assertEquals(5, log.eventCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que los registros viejos detrás de uno dañado no reaparecen")
+    void testStaleRecordsAfterTornRecordAreDiscarded() throws IOException {
+        Path file = dir.resolve("scores.log");
+        crash(file, 6);
+        // Se daña el cuarto registro; el quinto y el sexto siguen siendo válidos por sí solos
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xAB}), 3L * ScoreLog.RECORD_BYTES + 5);
+        }
+        try (ScoreLog log = new ScoreLog(file, 16, 1, 1_000)) {
+            assertEquals(3, log.eventCount());
+            log.append(event(4, false, 10L)); // Reemplaza al registro dañado
+        }
+        Files.delete(file.resolveSibling("scores.log.idx")); // Fuerza a releer todo el registro
+        try (ScoreLog log = new ScoreLog(file, 16, 1, 1_000)) {
+            assertEquals(4, log.eventCount(), "Los registros posteriores al dañado no deben volver");
+            assertEquals(30, log.studentStats(3).getScore());
+            assertEquals(1, log.studentStats(4).getAttempts());
+        }
+    }
+
+    // Simula una caída: escribe count eventos del estudiante 3 y borra el índice, como si nunca se hubiera guardado
+    private static void crash(Path file, int count) throws IOException {
+        try (ScoreLog crashed = new ScoreLog(file, 16, 1, 1_000)) {
+            for (int i = 0; i < count; i++) {
+                crashed.append(event(3, true, 10L));
+            }
+        }
+        Files.delete(file.resolveSibling(file.getFileName() + ".idx"));
+    }
+
+    @Test
+    @DisplayName("Verificar la tabla histórica de los mejores estudiantes")
+    void testTopStudents() throws IOException {
+        try (ScoreLog log = new ScoreLog(dir.resolve("scores.log"), 64, 16, 1_000)) {
+            for (int student = 1; student <= 20; student++) {
+                for (int i = 0; i < student % 7; i++) {
+                    log.append(event(student, true, 5L));
+                }
+                log.append(event(student, false, 5L));
+            }
+            List<StudentStats> top = log.topStudents(3);
+            assertEquals(3, top.size());
+            assertEquals(6, top.get(0).getStudentId()); // 6, 13 y 20 tienen 6 aciertos
+            assertEquals(13, top.get(1).getStudentId());
+            assertEquals(20, top.get(2).getStudentId());
+            assertEquals(1, log.rankOf(6));
+            assertEquals(4, log.rankOf(5));
+            assertEquals(20, log.topStudents(50).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que el ScoreRecorder guarda cada respuesta del motor con su latencia")
+    void testRecorderListensToEngine() throws IOException {
+        long[] now = {0L};
+        try (ScoreLog log = new ScoreLog(dir.resolve("scores.log"), 64, 16, 1_000)) {
+            GameEngine engine = new GameEngine(GameEngine.GRID_SIZE, 99L);
+            engine.addListener(new ScoreRecorder(log, () -> now[0], new int[] {101, 102, 103}));
+            engine.newGame();
+            engine.selectCell(0, 0);
+            engine.selectCell(0, 1);
+            now[0] += 2_500L;
+            engine.answer(engine.getCorrectResult());
+            AnswerEvent recorded = log.read(0);
+            assertEquals(101, recorded.getStudentId());
+            assertEquals(2_500L, recorded.getLatencyNanos());
+            assertEquals(engine.getFirstNumber(), recorded.getFirstNumber());
+            assertEquals(engine.getOperator(), recorded.getOperator());
+            assertTrue(recorded.isCorrect());
+            assertEquals(10, log.studentStats(101).getScore());
+        }
+    }
+}
\ No newline at end of file
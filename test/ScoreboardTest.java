@@ -0,0 +1,108 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+public class ScoreboardTest {
+
+    @Test
+    @DisplayName("Verificar que la clasificación incremental coincide con ordenar a todos los jugadores")
+    void testIncrementalRanking() {
+        int players = 300;
+        Scoreboard board = new Scoreboard(players, 0);
+        SplittableRandom random = new SplittableRandom(3L);
+        int[] top = new int[10];
+        for (int move = 0; move < 5_000; move++) {
+            board.add(random.nextInt(players), GameEngine.POINTS_PER_CORRECT);
+            if (move % 500 == 0) {
+                Integer[] sorted = IntStream.range(0, players).boxed().sorted(
+                    Comparator.comparingInt((Integer p) -> -board.getScore(p)).thenComparingInt(p -> p))
+                    .toArray(Integer[]::new);
+                assertEquals(top.length, board.topPlayers(top));
+                for (int i = 0; i < top.length; i++) {
+                    assertEquals(sorted[i].intValue(), top[i]);
+                }
+                for (int i = 0; i < players; i++) {
+                    assertEquals(i + 1, board.getRank(sorted[i]));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar los puntajes de los equipos")
+    void testTeamScores() {
+        Scoreboard board = new Scoreboard(7, 3);
+        board.add(0, 10);
+        board.add(3, 10);
+        board.add(5, 10);
+        assertEquals(0, board.getTeam(6));
+        assertEquals(20, board.getTeamScore(0));
+        assertEquals(0, board.getTeamScore(1));
+        assertEquals(10, board.getTeamScore(2));
+        assertThrows(IllegalArgumentException.class, () -> new Scoreboard(2, 3));
+    }
+
+    @Test
+    @DisplayName("Verificar que el planificador recorre todas las rondas y detecta el fin en O(1)")
+    void testTurnScheduler() {
+        TurnScheduler scheduler = new TurnScheduler(70, 2);
+        scheduler.reset();
+        int turns = 0;
+        boolean playing = true;
+        while (playing) {
+            assertEquals(turns % 70, scheduler.getCurrent());
+            assertEquals(turns / 70, scheduler.getRound());
+            scheduler.markAttempted();
+            assertTrue(scheduler.hasAttempted(scheduler.getCurrent()));
+            turns++;
+            playing = scheduler.advance();
+        }
+        assertEquals(140, turns);
+        assertEquals(70, scheduler.getAttemptedCount());
+    }
+
+    @Test
+    @DisplayName("Verificar una partida de aula con muchos jugadores, equipos y varias rondas")
+    void testClassroomGame() {
+        int players = 120;
+        GameEngine engine = new GameEngine(32, 11L, players, 4, 3);
+        MoveLog log = engine.startRecording();
+        int[][] finalScores = new int[1][];
+        engine.setListener(new GameListener() {
+            @Override
+            public void gameOver(int[] scores) {
+                finalScores[0] = scores;
+            }
+        });
+        engine.newGame();
+        SplittableRandom random = new SplittableRandom(8L);
+        int turns = 0;
+        while (engine.getState() != GameEngine.State.GAME_OVER) {
+            int first = engine.randomFreeCell(random);
+            engine.selectCell(first / 32, first % 32);
+            int second = engine.randomFreeCell(random);
+            engine.selectCell(second / 32, second % 32);
+            engine.answer(random.nextBoolean() ? engine.getCorrectResult() : GameEngine.TIMEOUT_ANSWER);
+            engine.nextPlayer();
+            turns++;
+        }
+        assertEquals(players * 3, turns);
+        assertEquals(2, engine.getRound());
+        int total = Arrays.stream(finalScores[0]).sum();
+        int teams = 0;
+        for (int team = 0; team < 4; team++) {
+            teams += engine.getScoreboard().getTeamScore(team);
+        }
+        assertEquals(total, teams);
+        GameEngine replayed = GameReplay.replay(log.toByteArray());
+        assertEquals(players, replayed.getPlayerCount());
+        assertEquals(GameEngine.State.GAME_OVER, replayed.getState());
+        for (int player = 0; player < players; player++) {
+            assertEquals(engine.getScore(player), replayed.getScore(player));
+        }
+    }
+}
\ No newline at end of file
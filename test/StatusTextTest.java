@@ -0,0 +1,96 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StatusTextTest {
+
+    @Test
+    @DisplayName("Verificar que los textos coinciden con los mensajes de la vista")
+    void testTexts() {
+        StatusText texts = new StatusText(GameEngine.PLAYER_COUNT, 0);
+        assertEquals("Jugador 1: Selecciona una casilla", texts.selectFirst(0));
+        assertEquals("Jugador 2: Selecciona otra casilla", texts.selectSecond(1));
+        assertEquals("Jugador 3: ¡Correcto!", texts.result(2, true));
+        assertEquals("Jugador 3: ¡Incorrecto!", texts.result(2, false));
+        assertEquals("Jugador 2: Encuentra: 47 - 38 = ? (15s)", texts.question(1, 47, '-', 38, 15));
+        Scoreboard board = new Scoreboard(GameEngine.PLAYER_COUNT, 0);
+        board.add(0, 10);
+        board.add(2, 20);
+        assertEquals("Puntuaciones: Jugador 1: 10 | Jugador 2: 0 | Jugador 3: 20", texts.scores(board));
+        assertEquals("¡Juego terminado! Puntuaciones finales: Jugador 1: 10 | Jugador 2: 0 | Jugador 3: 20",
+            texts.gameOver(board));
+        assertEquals("-12", StatusText.number(-12));
+        assertEquals("1234", StatusText.number(1234));
+    }
+
+    @Test
+    @DisplayName("Verificar que los textos se reutilizan mientras no cambian los datos")
+    void testTextsAreCached() {
+        StatusText texts = new StatusText(GameEngine.PLAYER_COUNT, 0);
+        assertSame(texts.selectFirst(2), texts.selectFirst(2));
+        String question = texts.question(0, 12, '+', 34, 9);
+        assertSame(question, texts.question(0, 12, '+', 34, 9));
+        assertNotEquals(question, texts.question(0, 12, '-', 34, 9));
+        Scoreboard board = new Scoreboard(GameEngine.PLAYER_COUNT, 0);
+        board.add(1, 10);
+        String first = texts.scores(board);
+        assertSame(first, texts.scores(board));
+        board.add(2, 10);
+        assertEquals("Puntuaciones: Jugador 1: 0 | Jugador 2: 10 | Jugador 3: 10", texts.scores(board));
+        assertSame(StatusText.number(57), StatusText.number(57));
+    }
+
+    @Test
+    @DisplayName("Verificar que en partidas grandes se muestran los mejores jugadores y los equipos")
+    void testLeaderboardText() {
+        StatusText texts = new StatusText(30, 2);
+        Scoreboard board = new Scoreboard(30, 2);
+        board.add(12, 30);
+        board.add(7, 10);
+        board.add(25, 30);
+        assertEquals("Mejores: Jugador 13: 30 | Jugador 26: 30 | Jugador 8: 10 | Jugador 1: 0 | Jugador 2: 0" +
+            " | Equipo 1: 30 | Equipo 2: 40", texts.scores(board));
+    }
+
+    @Test
+    @DisplayName("Verificar que la etiqueta se actualiza una vez por pulso y solo si el texto cambió")
+    void testBatchedText() {
+        List<String> applied = new ArrayList<>();
+        BatchedText text = new BatchedText(applied::add, "inicio");
+        assertFalse(text.flush());
+        text.set("a");
+        text.set("b");
+        text.set("c");
+        assertTrue(text.flush());
+        text.set(new String("c"));
+        assertFalse(text.flush());
+        assertEquals(List.of("c"), applied);
+    }
+
+    @Test
+    @DisplayName("Verificar que un tick de la cuenta regresiva no asigna memoria")
+    void testTickDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        StatusText texts = new StatusText(GameEngine.PLAYER_COUNT, 0);
+        String[] label = new String[1];
+        BatchedText status = new BatchedText(value -> label[0] = value, "");
+        for (int i = 0; i < 1_000; i++) {
+            tick(texts, status, i);
+        }
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            tick(texts, status, i);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        assertTrue(allocated < 1_024, "Bytes asignados en 100000 ticks: " + allocated);
+    }
+
+    private static void tick(StatusText texts, BatchedText status, int i) {
+        status.set(texts.question(1, 47, '+', 38, GameEngine.TIMER_SECONDS - i % (GameEngine.TIMER_SECONDS + 1)));
+        status.flush();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class TimingWheelTest {
+
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // Tarea que registra el instante (en ticks) en que se ejecutó
+    private static final class Recorder extends TimingWheel.Task {
+        private final List<String> log;
+        private final String name;
+
+        Recorder(List<String> log, String name) {
+            this.log = log;
+            this.name = name;
+        }
+
+        @Override
+        public void run() {
+            log.add(name);
+        }
+    }
+
+    @Test
+    @DisplayName("Verificar que las tareas vencen en su tick, incluso con varias vueltas de rueda")
+    void testScheduleAcrossRounds() {
+        TimingWheel wheel = new TimingWheel(TICK, 8, 0);
+        List<String> log = new ArrayList<>();
+        wheel.schedule(new Recorder(log, "corta"), 3 * TICK);
+        wheel.schedule(new Recorder(log, "larga"), 19 * TICK); // Más de dos vueltas de 8 ranuras
+        assertEquals(2, wheel.pendingCount());
+        wheel.advanceTo(2 * TICK);
+        assertTrue(log.isEmpty());
+        wheel.advanceTo(3 * TICK);
+        assertEquals(List.of("corta"), log);
+        wheel.advanceTo(18 * TICK);
+        assertEquals(List.of("corta"), log, "La tarea larga no debe vencer al pasar por su ranura antes de tiempo");
+        wheel.advanceTo(19 * TICK);
+        assertEquals(List.of("corta", "larga"), log);
+        assertEquals(0, wheel.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Verificar que cancelar y reprogramar son O(1) y no ejecutan la tarea")
+    void testCancelAndReschedule() {
+        TimingWheel wheel = new TimingWheel(TICK, 8, 0);
+        List<String> log = new ArrayList<>();
+        Recorder cancelled = new Recorder(log, "cancelada");
+        Recorder moved = new Recorder(log, "movida");
+        wheel.schedule(cancelled, TICK);
+        wheel.schedule(moved, TICK);
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled), "No se puede cancelar dos veces");
+        wheel.schedule(moved, 5 * TICK);
+        assertEquals(1, wheel.pendingCount());
+        wheel.advanceTo(4 * TICK);
+        assertTrue(log.isEmpty());
+        wheel.advanceTo(5 * TICK);
+        assertEquals(List.of("movida"), log);
+    }
+
+    @Test
+    @DisplayName("Verificar la cuenta regresiva de 15 segundos y el tiempo agotado en el motor")
+    void testTurnCountdownTimeout() {
+        TimingWheel wheel = new TimingWheel(TICK, 64, 0);
+        GameEngine engine = new GameEngine();
+        List<Integer> ticks = new ArrayList<>();
+        engine.setListener(new GameListener() {
+            @Override
+            public void timerTicked(int player, int secondsLeft) {
+                ticks.add(secondsLeft);
+            }
+        });
+        engine.newGame();
+        engine.selectCell(0, 0);
+        engine.selectCell(0, 1);
+        new TurnCountdown(wheel, engine, engine.getTurnNumber()).start();
+        long second = TimeUnit.SECONDS.toNanos(1);
+        wheel.advanceTo(GameEngine.TIMER_SECONDS * second);
+        assertEquals(GameEngine.TIMER_SECONDS, ticks.size());
+        assertEquals(0, engine.getTimeLeft());
+        assertEquals(GameEngine.State.ANSWER, engine.getState());
+        wheel.advanceTo((GameEngine.TIMER_SECONDS + 1) * second);
+        assertEquals(GameEngine.State.NEXT_PLAYER, engine.getState(), "El tick 16 agota el tiempo");
+        assertTrue(engine.hasAttempted(0));
+        assertEquals(0, wheel.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Verificar que el servidor agota el tiempo de muchas sesiones con una sola rueda")
+    void testServerTimeouts() throws Exception {
+        long[] now = {0};
+        try (GameServer server = new GameServer(GameEngine.GRID_SIZE, () -> now[0], false)) {
+            long[] ids = new long[500];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = server.createSession();
+                server.select(ids[i], 0, 0).get();
+                server.select(ids[i], 0, 1).get();
+            }
+            assertEquals(ids.length, server.pendingTimers());
+            // Una sesión responde a tiempo y su temporizador se cancela
+            server.answer(ids[0], 0).get();
+            assertEquals(ids.length - 1, server.pendingTimers());
+            now[0] = TimeUnit.SECONDS.toNanos(GameEngine.TIMER_SECONDS + 1);
+            server.advanceTimers();
+            for (long id : ids) {
+                assertEquals(GameEngine.State.SELECT_FIRST, server.getSession(id).getState());
+                assertEquals(1, server.getSession(id).getCurrentPlayer());
+            }
+            assertEquals(0, server.pendingTimers());
+        }
+    }
+}
\ No newline at end of file